@@ -0,0 +1,71 @@
+package gregtech;
+
+import gregtech.api.recipes.RecipeBuilder;
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.ingredients.IntCircuitIngredient;
+import gregtech.api.unification.material.Materials;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+import java.util.List;
+
+/**
+ * Populates recipe maps for benchmarks.
+ * <p>
+ * The recipe loaders need a full FML lifecycle, which {@link Bootstrap} does not provide. Instead, maps are filled
+ * with deterministic synthetic recipes of a similar shape: two distinct items, a circuit and a fluid.
+ */
+public final class BenchmarkRecipes {
+
+    private BenchmarkRecipes() {}
+
+    /**
+     * @return the vanilla items usable as recipe inputs, in registry order
+     */
+    public static List<ItemStack> inputItems() {
+        List<ItemStack> items = new ObjectArrayList<>();
+        for (Item item : Item.REGISTRY) {
+            ItemStack stack = new ItemStack(item);
+            if (!stack.isEmpty()) items.add(stack);
+        }
+        return items;
+    }
+
+    /**
+     * Adds up to {@code amount} recipes to a map.
+     *
+     * @param map    the map to populate
+     * @param amount the amount of recipes to add
+     * @return the inputs of the last recipe added, usable for a lookup hit
+     */
+    public static List<ItemStack> populate(RecipeMap<?> map, int amount) {
+        List<ItemStack> items = inputItems();
+        List<ItemStack> last = new ObjectArrayList<>();
+        int added = 0;
+        outer:
+        for (int circuit = 1; circuit <= 24; circuit++) {
+            for (int i = 0; i < items.size(); i++) {
+                for (int j = i + 1; j < items.size(); j++) {
+                    if (added >= amount) break outer;
+                    RecipeBuilder<?> builder = map.recipeBuilder()
+                            .inputs(items.get(i).copy(), items.get(j).copy())
+                            .circuitMeta(circuit)
+                            .fluidInputs(Materials.Water.getFluid(100))
+                            .outputs(items.get(i).copy())
+                            .EUt(30).duration(100);
+                    if (map.addRecipe(builder.build())) {
+                        added++;
+                        last.clear();
+                        last.add(items.get(i).copy());
+                        last.add(items.get(j).copy());
+                        last.add(IntCircuitIngredient.getIntegratedCircuit(circuit));
+                    }
+                }
+            }
+        }
+        return last;
+    }
+}
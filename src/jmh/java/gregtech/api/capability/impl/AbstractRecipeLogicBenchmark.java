@@ -0,0 +1,96 @@
+package gregtech.api.capability.impl;
+
+import gregtech.BenchmarkRecipes;
+import gregtech.Bootstrap;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.MetaTileEntityHolder;
+import gregtech.api.metatileentity.SimpleMachineMetaTileEntity;
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.builders.SimpleRecipeBuilder;
+import gregtech.api.util.GTUtility;
+import gregtech.api.util.world.DummyWorld;
+import gregtech.common.metatileentities.MetaTileEntities;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link AbstractRecipeLogic#trySearchNewRecipe()} for a machine whose inputs match no recipe, which is
+ * what idle machines fed with junk items repeatedly do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AbstractRecipeLogicBenchmark {
+
+    private AbstractRecipeLogic logic;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Bootstrap.perform();
+
+        RecipeMap<SimpleRecipeBuilder> map = new RecipeMap<>("benchmark_assembler", 9, 1, 1, 0,
+                new SimpleRecipeBuilder().EUt(30), false);
+        BenchmarkRecipes.populate(map, 5000);
+
+        MetaTileEntity mte = MetaTileEntities.registerMetaTileEntity(190,
+                new SimpleMachineMetaTileEntity(GTUtility.gregtechId("benchmark_assembler.lv"), map, null, 1,
+                        false));
+        MetaTileEntity holderMte = new MetaTileEntityHolder().setMetaTileEntity(mte);
+        ((MetaTileEntityHolder) holderMte.getHolder()).setWorld(DummyWorld.INSTANCE);
+
+        this.logic = new AbstractRecipeLogic(holderMte, map) {
+
+            @Override
+            protected long getEnergyInputPerSecond() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            protected long getEnergyStored() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            protected long getEnergyCapacity() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            protected boolean drawEnergy(int recipeEUt, boolean simulate) {
+                return true;
+            }
+
+            @Override
+            public long getMaxVoltage() {
+                return 32;
+            }
+        };
+
+        logic.getInputInventory().setStackInSlot(0, new ItemStack(Blocks.DIRT, 64));
+        logic.getInputInventory().setStackInSlot(1, new ItemStack(Blocks.GRAVEL, 64));
+    }
+
+    @Benchmark
+    public boolean trySearchNewRecipeMiss() {
+        logic.trySearchNewRecipe();
+        return logic.invalidInputsForRecipes;
+    }
+}
@@ -0,0 +1,103 @@
+package gregtech.api.pipenet;
+
+import gregtech.api.unification.material.properties.WireProperties;
+import gregtech.common.pipelike.cable.net.WorldENet;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks saving a large cable net in the packed and the legacy node format, including compression like
+ * an autosave. The compressed size of both formats is printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipeNetSerializationBenchmark {
+
+    @Param({ "10000", "200000" })
+    public int cables;
+
+    private PipeNet<WireProperties> net;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        // a flat square of cables, with a few different wire types
+        NBTTagList properties = new NBTTagList();
+        for (int i = 0; i < 4; i++) {
+            NBTTagCompound tag = new NBTTagCompound();
+            tag.setInteger("index", i);
+            tag.setInteger("voltage", 32 << (2 * i));
+            tag.setInteger("amperage", 1 + i);
+            tag.setInteger("loss", 1);
+            properties.appendTag(tag);
+        }
+        NBTTagList nodes = new NBTTagList();
+        int side = (int) Math.ceil(Math.sqrt(cables));
+        for (int i = 0; i < cables; i++) {
+            NBTTagCompound tag = new NBTTagCompound();
+            tag.setInteger("x", i % side - side / 2);
+            tag.setInteger("y", 64);
+            tag.setInteger("z", i / side - side / 2);
+            tag.setInteger("index", (i / 1000) % 4);
+            tag.setInteger("open", 0b111100);
+            tag.setBoolean("active", i % 50 == 0);
+            nodes.appendTag(tag);
+        }
+        NBTTagCompound nodeList = new NBTTagCompound();
+        nodeList.setTag("NodeIndexes", nodes);
+        nodeList.setTag("WireProperties", properties);
+        NBTTagCompound netTag = new NBTTagCompound();
+        netTag.setTag("Nodes", nodeList);
+        NBTTagList nets = new NBTTagList();
+        nets.appendTag(netTag);
+        NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag("PipeNets", nets);
+
+        WorldENet world = new WorldENet("benchmark");
+        world.readFromNBT(compound);
+        this.net = world.pipeNets.get(0);
+
+        System.out.printf("%n%d cables: packed %d bytes, legacy %d bytes%n", cables,
+                compressedSize(net.serializePackedNodeList(net.getAllNodes())),
+                compressedSize(net.serializeAllNodeList(net.getAllNodes())));
+    }
+
+    private int compressedSize(NBTTagCompound compound) throws IOException {
+        output.reset();
+        CompressedStreamTools.writeCompressed(compound, output);
+        return output.size();
+    }
+
+    @Benchmark
+    public int savePacked() throws IOException {
+        return compressedSize(net.serializePackedNodeList(net.getAllNodes()));
+    }
+
+    @Benchmark
+    public int saveLegacy() throws IOException {
+        return compressedSize(net.serializeAllNodeList(net.getAllNodes()));
+    }
+}
@@ -0,0 +1,76 @@
+package gregtech.api.recipes;
+
+import gregtech.BenchmarkRecipes;
+import gregtech.Bootstrap;
+import gregtech.api.unification.material.Materials;
+import gregtech.common.ConfigHolder;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link RecipeMap#findRecipe(long, List, List)} on a populated {@link RecipeMaps#ASSEMBLER_RECIPES}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecipeMapBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int recipes;
+
+    @Param({ "0", "256" })
+    public int negativeCacheSize;
+
+    private List<ItemStack> hitItems;
+    private List<FluidStack> hitFluids;
+    private List<ItemStack> missItems;
+    private List<FluidStack> missFluids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Bootstrap.perform();
+        ConfigHolder.machines.recipeNegativeCacheSize = negativeCacheSize;
+        GTRecipeHandler.removeAllRecipes(RecipeMaps.ASSEMBLER_RECIPES);
+
+        this.hitItems = BenchmarkRecipes.populate(RecipeMaps.ASSEMBLER_RECIPES, recipes);
+        this.hitFluids = Collections.singletonList(Materials.Water.getFluid(1000));
+
+        // a typical inventory full of junk
+        this.missItems = Arrays.asList(new ItemStack(Blocks.DIRT, 64), new ItemStack(Blocks.GRAVEL, 64),
+                new ItemStack(Blocks.SAND, 32), ItemStack.EMPTY, new ItemStack(Blocks.COBBLESTONE, 16));
+        this.missFluids = Collections.singletonList(Materials.Lava.getFluid(1000));
+    }
+
+    @Benchmark
+    public Recipe findRecipeHit() {
+        return RecipeMaps.ASSEMBLER_RECIPES.findRecipe(Long.MAX_VALUE, hitItems, hitFluids);
+    }
+
+    @Benchmark
+    public Recipe findRecipeMiss() {
+        return RecipeMaps.ASSEMBLER_RECIPES.findRecipe(Long.MAX_VALUE, missItems, missFluids);
+    }
+}
@@ -0,0 +1,45 @@
+package gregtech.api.recipes.logic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static gregtech.api.GTValues.*;
+
+/**
+ * Benchmarks the standard and heating coil paths of {@link OverclockingLogic}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OverclockingBenchmark {
+
+    // non-final so the values are not constant folded
+    public int recipeEUt = (int) V[LV];
+    public int recipeDuration = 32768;
+    public long maxVoltage = V[UV];
+
+    @Benchmark
+    public int[] standardOverclocking() {
+        return OverclockingLogic.standardOverclockingLogic(recipeEUt, maxVoltage, recipeDuration, UV - LV,
+                OverclockingLogic.STANDARD_OVERCLOCK_DURATION_DIVISOR,
+                OverclockingLogic.STANDARD_OVERCLOCK_VOLTAGE_MULTIPLIER);
+    }
+
+    @Benchmark
+    public int[] heatingCoilOverclocking() {
+        return OverclockingLogic.heatingCoilOverclockingLogic(recipeEUt, maxVoltage, recipeDuration, UV - LV, 5400,
+                1800);
+    }
+}
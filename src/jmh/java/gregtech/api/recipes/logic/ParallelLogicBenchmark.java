@@ -0,0 +1,77 @@
+package gregtech.api.recipes.logic;
+
+import gregtech.Bootstrap;
+import gregtech.api.GTValues;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeBuilder;
+import gregtech.api.recipes.RecipeMaps;
+import gregtech.common.metatileentities.MetaTileEntities;
+import gregtech.common.metatileentities.electric.SimpleMachineMetaTileEntityResizable;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static gregtech.api.util.GTUtility.gregtechId;
+
+/**
+ * Benchmarks {@link ParallelLogic#doParallelRecipes} for a single-block machine with a large input stack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelLogicBenchmark {
+
+    @Param({ "4", "64", "256" })
+    public int parallelAmount;
+
+    private Recipe recipe;
+    private SimpleMachineMetaTileEntityResizable macerator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Bootstrap.perform();
+
+        this.recipe = RecipeMaps.MACERATOR_RECIPES.recipeBuilder()
+                .input(Blocks.STONE)
+                .output(Items.CARROT)
+                .chancedOutput(new ItemStack(Items.POTATO), 5000, 0)
+                .build().getResult();
+
+        this.macerator = MetaTileEntities.registerMetaTileEntity(1,
+                new SimpleMachineMetaTileEntityResizable(
+                        gregtechId("macerator"),
+                        RecipeMaps.MACERATOR_RECIPES,
+                        -1,
+                        4,
+                        null,
+                        GTValues.EV));
+        macerator.getImportItems().setStackInSlot(0, new ItemStack(Blocks.STONE, 64));
+    }
+
+    @Benchmark
+    public RecipeBuilder<?> doParallelRecipes() {
+        return ParallelLogic.doParallelRecipes(recipe, RecipeMaps.MACERATOR_RECIPES,
+                macerator.getImportItems(), macerator.getImportFluids(),
+                macerator.getExportItems(), macerator.getExportFluids(),
+                parallelAmount, GTValues.V[GTValues.EV], macerator);
+    }
+}
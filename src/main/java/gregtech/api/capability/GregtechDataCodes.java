@@ -1,22 +1,43 @@
 package gregtech.api.capability;
 
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
 public class GregtechDataCodes {
 
     private static int nextId = 0;
+    private static final IntSet REPLACEABLE_IDS = new IntOpenHashSet();
 
     public static int assignId() {
         return nextId++;
     }
 
+    /**
+     * Assigns an id for data which always contains the complete state it syncs, such as a boolean or a number.
+     * When the data is written multiple times before it is sent, only the latest data is sent.
+     */
+    public static int assignReplaceableId() {
+        int id = assignId();
+        REPLACEABLE_IDS.add(id);
+        return id;
+    }
+
+    /**
+     * @return if newer data with the id replaces older data with the same id which was not sent yet
+     */
+    public static boolean isReplaceable(int id) {
+        return REPLACEABLE_IDS.contains(id);
+    }
+
     // MTE implementation update codes
     public static final int INITIALIZE_MTE = assignId();
-    public static final int UPDATE_FRONT_FACING = assignId();
-    public static final int UPDATE_PAINTING_COLOR = assignId();
+    public static final int UPDATE_FRONT_FACING = assignReplaceableId();
+    public static final int UPDATE_PAINTING_COLOR = assignReplaceableId();
     public static final int SYNC_MTE_TRAITS = assignId();
     public static final int COVER_ATTACHED_MTE = assignId();
     public static final int COVER_REMOVED_MTE = assignId();
     public static final int UPDATE_COVER_DATA_MTE = assignId();
-    public static final int UPDATE_SOUND_MUFFLED = assignId();
+    public static final int UPDATE_SOUND_MUFFLED = assignReplaceableId();
 
     public static final int UPDATE_OUTPUT_FACING = assignId();
     public static final int UPDATE_AUTO_OUTPUT_ITEMS = assignId();
@@ -46,7 +67,7 @@ public class GregtechDataCodes {
     public static final int PUMP_HEAD_LEVEL = assignId();
 
     // Item Collector, Magic Energy Absorber, Large Boiler, Steam Oven
-    public static final int IS_WORKING = assignId();
+    public static final int IS_WORKING = assignReplaceableId();
 
     // Adjustable Transformer, Adjustable Energy Hatch, Diode
     public static final int AMP_INDEX = assignId();
@@ -65,9 +86,9 @@ public class GregtechDataCodes {
     public static final int UPDATE_COVER_DATA_PIPE = assignId();
     public static final int COVER_ATTACHED_PIPE = assignId();
     public static final int COVER_REMOVED_PIPE = assignId();
-    public static final int PIPE_OPTICAL_ACTIVE = assignId();
-    public static final int PIPE_LASER_ACTIVE = assignId();
-    public static final int CABLE_TEMPERATURE = assignId();
+    public static final int PIPE_OPTICAL_ACTIVE = assignReplaceableId();
+    public static final int PIPE_LASER_ACTIVE = assignReplaceableId();
+    public static final int CABLE_TEMPERATURE = assignReplaceableId();
 
     // Multiblock implementation update codes
     public static final int SYNC_CONTROLLER = assignId();
@@ -127,15 +148,15 @@ public class GregtechDataCodes {
     public static final int LOAD_PHANTOM_FLUID_STACK_FROM_NBT = assignId();
 
     // Recipe Logic
-    public static final int WORKABLE_ACTIVE = assignId();
+    public static final int WORKABLE_ACTIVE = assignReplaceableId();
     public static final int WORKING_ENABLED = assignId();
 
     // Creative Energy
     public static final int UPDATE_IO_SPEED = assignId();
 
     // Quantum Chest/Tank
-    public static final int UPDATE_ITEM_COUNT = assignId();
-    public static final int UPDATE_FLUID_AMOUNT = assignId();
+    public static final int UPDATE_ITEM_COUNT = assignReplaceableId();
+    public static final int UPDATE_FLUID_AMOUNT = assignReplaceableId();
 
     // Detector Covers
     public static final int UPDATE_INVERTED = assignId();
@@ -143,7 +164,7 @@ public class GregtechDataCodes {
     // HPCA / Research Station
     public static final int DAMAGE_STATE = assignId();
     public static final int LOCK_OBJECT_HOLDER = assignId();
-    public static final int CACHED_CWU = assignId();
+    public static final int CACHED_CWU = assignReplaceableId();
 
     // NBT Keys
 
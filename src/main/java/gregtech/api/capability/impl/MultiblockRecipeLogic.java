@@ -14,7 +14,13 @@ import gregtech.api.recipes.recipeproperties.IRecipePropertyStorage;
 import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
 
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.NonNullList;
 import net.minecraft.util.Tuple;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 
@@ -32,6 +38,14 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
     protected IItemHandlerModifiable currentDistinctInputBus;
     protected List<IItemHandlerModifiable> invalidatedInputList = new ArrayList<>();
 
+    // Used for distinct bus lanes, one lane per input bus
+    private static final String LANES = "Lanes";
+    protected List<RecipeLane> lanes;
+    private boolean lanesBound;
+    private int laneShare = 1;
+    // the voltage left by the running lanes, while a lane searches a recipe
+    private long laneVoltage;
+
     public MultiblockRecipeLogic(RecipeMapMultiblockController tileEntity) {
         super(tileEntity, tileEntity.recipeMap);
     }
@@ -44,7 +58,13 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
     public void update() {}
 
     public void updateWorkable() {
-        super.update();
+        // a recipe started without lanes is finished first, lanes which are still running are finished after
+        // lanes were disabled
+        if (lanes != null || (progressTime == 0 && isLaneMode())) {
+            updateLanes();
+        } else {
+            super.update();
+        }
     }
 
     @Override
@@ -67,6 +87,9 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
         isOutputsFull = false;
         invalidInputsForRecipes = false;
         invalidatedInputList.clear();
+        lanes = null;
+        lanesBound = false;
+        laneShare = 1;
         setActive(false); // this marks dirty for us
     }
 
@@ -111,6 +134,10 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
 
     @Override
     protected boolean canWorkWithInputs() {
+        if (lanes != null) {
+            // each lane only searches again after its own bus changed, see updateLaneNotifications()
+            return !invalidInputsForRecipes;
+        }
         MultiblockWithDisplayBase controller = (MultiblockWithDisplayBase) metaTileEntity;
         if (controller instanceof RecipeMapMultiblockController) {
             RecipeMapMultiblockController distinctController = (RecipeMapMultiblockController) controller;
@@ -170,13 +197,17 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
     @Override
     protected void trySearchNewRecipe() {
         // do not run recipes when there are more than 5 maintenance problems
-        // Maintenance can apply to all multiblocks, so cast to a base multiblock class
-        MultiblockWithDisplayBase controller = (MultiblockWithDisplayBase) metaTileEntity;
-        if (ConfigHolder.machines.enableMaintenance && controller.hasMaintenanceMechanics() &&
-                controller.getNumMaintenanceProblems() > 5) {
+        if (hasTooManyMaintenanceProblems()) {
+            return;
+        }
+        // recipes are searched by the lanes
+        if (isLaneMode()) {
             return;
         }
 
+        // Maintenance can apply to all multiblocks, so cast to a base multiblock class
+        MultiblockWithDisplayBase controller = (MultiblockWithDisplayBase) metaTileEntity;
+
         // Distinct buses only apply to some multiblocks, so check the controller against a lower class
         if (controller instanceof RecipeMapMultiblockController) {
             RecipeMapMultiblockController distinctController = (RecipeMapMultiblockController) controller;
@@ -244,8 +275,234 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
         }
     }
 
+    /**
+     * @return if recipes should not run because of maintenance problems
+     */
+    protected boolean hasTooManyMaintenanceProblems() {
+        // Maintenance can apply to all multiblocks, so cast to a base multiblock class
+        MultiblockWithDisplayBase controller = (MultiblockWithDisplayBase) metaTileEntity;
+        return ConfigHolder.machines.enableMaintenance && controller.hasMaintenanceMechanics() &&
+                controller.getNumMaintenanceProblems() > 5;
+    }
+
+    /**
+     * @return if every input bus should run its own recipe at the same time
+     */
+    protected boolean isLaneMode() {
+        if (!ConfigHolder.machines.distinctBusLanes) return false;
+        return metaTileEntity instanceof RecipeMapMultiblockController controller && controller.canBeDistinct() &&
+                controller.isDistinct() && getInputInventory().getSlots() > 0;
+    }
+
+    /**
+     * Updates all lanes. Each lane is loaded into the fields of this logic, so it can be run like a single recipe.
+     */
+    protected void updateLanes() {
+        boolean laneMode = isLaneMode();
+        bindLanes();
+        if (workingEnabled) {
+            updateLaneNotifications();
+            boolean canSearch = laneMode && !hasTooManyMaintenanceProblems();
+            this.laneShare = Math.max(1, countWorkingLanes());
+            // all lanes together may not use more than the voltage of the multiblock
+            long availableVoltage = Math.max(GTValues.V[GTValues.ULV], getMaximumOverclockVoltageUnshared());
+            for (RecipeLane lane : lanes) {
+                if (lane.progressTime > 0) availableVoltage -= lane.recipeEUt;
+            }
+            boolean checkProgress = getMetaTileEntity().getOffsetTimer() % 20 == 0;
+            for (RecipeLane lane : lanes) {
+                loadLane(lane);
+                if (checkProgress) this.canRecipeProgress = canProgressRecipe();
+                if (progressTime > 0) {
+                    int laneEUt = recipeEUt;
+                    updateRecipeProgress();
+                    if (progressTime == 0) availableVoltage += laneEUt;
+                }
+                if (canSearch && progressTime == 0 && lane.bus != null && availableVoltage > 0 &&
+                        shouldSearchForRecipes()) {
+                    this.laneVoltage = availableVoltage;
+                    trySearchNewRecipeLane(lane.bus);
+                    this.laneVoltage = 0;
+                    if (progressTime > 0) availableVoltage -= recipeEUt;
+                }
+                storeLane(lane);
+            }
+            this.laneShare = 1;
+        }
+        showLaneSummary();
+        if (workingEnabled || wasActiveAndNeedsUpdate) {
+            this.wasActiveAndNeedsUpdate = false;
+            setActive(progressTime > 0);
+        }
+        if (!laneMode && progressTime == 0) {
+            // all lanes finished after lanes were disabled
+            this.lanes = null;
+            this.lanesBound = false;
+        }
+    }
+
+    /**
+     * Creates the lanes if needed, and assigns an input bus to every lane
+     */
+    private void bindLanes() {
+        if (lanes == null) {
+            lanes = new ArrayList<>();
+            lanesBound = false;
+        }
+        if (lanesBound) return;
+        List<IItemHandlerModifiable> buses = getInputBuses();
+        for (int i = 0; i < buses.size(); i++) {
+            if (i < lanes.size()) {
+                lanes.get(i).bus = buses.get(i);
+            } else {
+                lanes.add(new RecipeLane(buses.get(i)));
+            }
+        }
+        lanesBound = true;
+    }
+
+    /**
+     * Lets lanes without a recipe search again, if their bus or the fluid inputs changed
+     */
+    private void updateLaneNotifications() {
+        List<IItemHandlerModifiable> notifiedItems = metaTileEntity.getNotifiedItemInputList();
+        boolean fluidsChanged = !metaTileEntity.getNotifiedFluidInputList().isEmpty();
+        if (notifiedItems.isEmpty() && !fluidsChanged) return;
+        for (RecipeLane lane : lanes) {
+            if (lane.invalidInputs && (fluidsChanged || isBusNotified(lane.bus, notifiedItems))) {
+                lane.invalidInputs = false;
+            }
+        }
+        notifiedItems.clear();
+        metaTileEntity.getNotifiedFluidInputList().clear();
+    }
+
+    private static boolean isBusNotified(@Nullable IItemHandlerModifiable bus,
+                                         @NotNull List<IItemHandlerModifiable> notifiedItems) {
+        if (bus == null) return false;
+        for (IItemHandlerModifiable notified : notifiedItems) {
+            if (notified == bus) return true;
+            if (bus instanceof ItemHandlerList list && list.getBackingHandlers().contains(notified)) return true;
+            if (notified instanceof ItemHandlerList list && list.getBackingHandlers().contains(bus)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the amount of lanes which run a recipe, or may start one
+     */
+    private int countWorkingLanes() {
+        int working = 0;
+        for (RecipeLane lane : lanes) {
+            if (lane.progressTime > 0 || (lane.bus != null && !lane.invalidInputs)) {
+                working++;
+            }
+        }
+        return working;
+    }
+
+    /**
+     * Searches a new recipe for the loaded lane
+     *
+     * @param bus the input bus of the lane
+     */
+    protected void trySearchNewRecipeLane(@NotNull IItemHandlerModifiable bus) {
+        this.currentDistinctInputBus = bus;
+        if (checkPreviousRecipeDistinct(bus)) {
+            // wait for running lanes to finish if the recipe needs more voltage than they leave
+            if (previousRecipe.getEUt() > laneVoltage) return;
+            if (checkRecipe(previousRecipe) && prepareRecipeDistinct(previousRecipe)) return;
+        }
+        Recipe currentRecipe = findRecipe(getMaxVoltage(), bus, getInputTank());
+        if (currentRecipe == null) {
+            // nothing to do until the bus changes
+            this.invalidInputsForRecipes = true;
+            return;
+        }
+        if (currentRecipe.getEUt() > laneVoltage) {
+            // cache the recipe until running lanes leave enough voltage for it
+            this.previousRecipe = currentRecipe;
+            return;
+        }
+        if (checkRecipe(currentRecipe)) {
+            this.previousRecipe = currentRecipe;
+            prepareRecipeDistinct(currentRecipe);
+        }
+    }
+
+    private void loadLane(@NotNull RecipeLane lane) {
+        this.currentDistinctInputBus = lane.bus;
+        this.previousRecipe = lane.previousRecipe;
+        this.progressTime = lane.progressTime;
+        this.maxProgressTime = lane.maxProgressTime;
+        this.recipeEUt = lane.recipeEUt;
+        this.parallelRecipesPerformed = lane.parallelRecipesPerformed;
+        this.overclockResults = lane.overclockResults;
+        this.itemOutputs = lane.itemOutputs;
+        this.fluidOutputs = lane.fluidOutputs;
+        this.canRecipeProgress = lane.canRecipeProgress;
+        this.hasNotEnoughEnergy = lane.hasNotEnoughEnergy;
+        this.invalidInputsForRecipes = lane.invalidInputs;
+    }
+
+    private void storeLane(@NotNull RecipeLane lane) {
+        lane.previousRecipe = this.previousRecipe;
+        lane.progressTime = this.progressTime;
+        lane.maxProgressTime = this.maxProgressTime;
+        lane.recipeEUt = this.recipeEUt;
+        lane.parallelRecipesPerformed = this.parallelRecipesPerformed;
+        lane.overclockResults = this.overclockResults;
+        lane.itemOutputs = this.itemOutputs;
+        lane.fluidOutputs = this.fluidOutputs;
+        lane.canRecipeProgress = this.canRecipeProgress;
+        lane.hasNotEnoughEnergy = this.hasNotEnoughEnergy;
+        lane.invalidInputs = this.invalidInputsForRecipes;
+    }
+
+    /**
+     * Shows the lane closest to completion as the current recipe, with the energy usage of all lanes
+     */
+    private void showLaneSummary() {
+        RecipeLane shown = null;
+        long totalEUt = 0;
+        boolean notEnoughEnergy = false;
+        for (RecipeLane lane : lanes) {
+            if (lane.progressTime <= 0) continue;
+            totalEUt += lane.recipeEUt;
+            notEnoughEnergy |= lane.hasNotEnoughEnergy;
+            if (shown == null || (long) lane.progressTime * shown.maxProgressTime >
+                    (long) shown.progressTime * lane.maxProgressTime) {
+                shown = lane;
+            }
+        }
+        if (shown == null) {
+            this.progressTime = 0;
+            this.maxProgressTime = 0;
+            this.recipeEUt = 0;
+            this.itemOutputs = null;
+            this.fluidOutputs = null;
+            this.parallelRecipesPerformed = 0;
+        } else {
+            loadLane(shown);
+            this.recipeEUt = (int) Math.min(Integer.MAX_VALUE, totalEUt);
+        }
+        this.hasNotEnoughEnergy = notEnoughEnergy;
+        this.invalidInputsForRecipes = false;
+        this.currentDistinctInputBus = null;
+    }
+
+    @Override
+    public int getParallelLimit() {
+        int parallelLimit = super.getParallelLimit();
+        return laneShare > 1 ? Math.max(1, parallelLimit / laneShare) : parallelLimit;
+    }
+
     @Override
     public void invalidateInputs() {
+        if (lanes != null) {
+            this.invalidInputsForRecipes = true;
+            return;
+        }
         MultiblockWithDisplayBase controller = (MultiblockWithDisplayBase) metaTileEntity;
         RecipeMapMultiblockController distinctController = (RecipeMapMultiblockController) controller;
         if (distinctController.canBeDistinct() && distinctController.isDistinct() &&
@@ -309,6 +566,15 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
 
     @Override
     public long getMaximumOverclockVoltage() {
+        if (laneVoltage > 0) {
+            // lanes starting a recipe may only overclock up to the voltage the running lanes leave
+            return laneVoltage < GTValues.V[GTValues.ULV] ? laneVoltage :
+                    GTValues.V[GTUtility.getFloorTierByVoltage(laneVoltage)];
+        }
+        return getMaximumOverclockVoltageUnshared();
+    }
+
+    private long getMaximumOverclockVoltageUnshared() {
         IEnergyContainer energyContainer = getEnergyContainer();
         if (energyContainer instanceof EnergyContainerList) {
             long voltage;
@@ -439,6 +705,35 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
         return getMaximumOverclockVoltage();
     }
 
+    @NotNull
+    @Override
+    public NBTTagCompound serializeNBT() {
+        NBTTagCompound compound = super.serializeNBT();
+        if (lanes != null) {
+            NBTTagList laneList = new NBTTagList();
+            for (RecipeLane lane : lanes) {
+                laneList.appendTag(lane.serializeNBT());
+            }
+            compound.setTag(LANES, laneList);
+        }
+        return compound;
+    }
+
+    @Override
+    public void deserializeNBT(@NotNull NBTTagCompound compound) {
+        super.deserializeNBT(compound);
+        if (compound.hasKey(LANES, Constants.NBT.TAG_LIST)) {
+            NBTTagList laneList = compound.getTagList(LANES, Constants.NBT.TAG_COMPOUND);
+            this.lanes = new ArrayList<>();
+            for (int i = 0; i < laneList.tagCount(); i++) {
+                RecipeLane lane = new RecipeLane(null);
+                lane.deserializeNBT(laneList.getCompoundTagAt(i));
+                lanes.add(lane);
+            }
+            this.lanesBound = false;
+        }
+    }
+
     @Nullable
     @Override
     public RecipeMap<?> getRecipeMap() {
@@ -447,4 +742,67 @@ public class MultiblockRecipeLogic extends AbstractRecipeLogic {
             return ((IMultipleRecipeMaps) metaTileEntity).getCurrentRecipeMap();
         return super.getRecipeMap();
     }
+
+    /**
+     * The recipe state of a single input bus in distinct bus lanes mode
+     */
+    protected static class RecipeLane {
+
+        @Nullable
+        protected IItemHandlerModifiable bus;
+        protected Recipe previousRecipe;
+        protected int progressTime;
+        protected int maxProgressTime;
+        protected int recipeEUt;
+        protected int parallelRecipesPerformed;
+        protected int[] overclockResults;
+        protected NonNullList<ItemStack> itemOutputs;
+        protected List<FluidStack> fluidOutputs;
+        protected boolean canRecipeProgress = true;
+        protected boolean hasNotEnoughEnergy;
+        protected boolean invalidInputs;
+
+        protected RecipeLane(@Nullable IItemHandlerModifiable bus) {
+            this.bus = bus;
+        }
+
+        @NotNull
+        protected NBTTagCompound serializeNBT() {
+            NBTTagCompound compound = new NBTTagCompound();
+            if (progressTime > 0) {
+                compound.setInteger("Progress", progressTime);
+                compound.setInteger("MaxProgress", maxProgressTime);
+                compound.setInteger("RecipeEUt", recipeEUt);
+                NBTTagList itemOutputsList = new NBTTagList();
+                for (ItemStack itemOutput : itemOutputs) {
+                    itemOutputsList.appendTag(itemOutput.writeToNBT(new NBTTagCompound()));
+                }
+                NBTTagList fluidOutputsList = new NBTTagList();
+                for (FluidStack fluidOutput : fluidOutputs) {
+                    fluidOutputsList.appendTag(fluidOutput.writeToNBT(new NBTTagCompound()));
+                }
+                compound.setTag("ItemOutputs", itemOutputsList);
+                compound.setTag("FluidOutputs", fluidOutputsList);
+            }
+            return compound;
+        }
+
+        protected void deserializeNBT(@NotNull NBTTagCompound compound) {
+            this.progressTime = compound.getInteger("Progress");
+            if (progressTime > 0) {
+                this.maxProgressTime = compound.getInteger("MaxProgress");
+                this.recipeEUt = compound.getInteger("RecipeEUt");
+                NBTTagList itemOutputsList = compound.getTagList("ItemOutputs", Constants.NBT.TAG_COMPOUND);
+                this.itemOutputs = NonNullList.create();
+                for (int i = 0; i < itemOutputsList.tagCount(); i++) {
+                    this.itemOutputs.add(new ItemStack(itemOutputsList.getCompoundTagAt(i)));
+                }
+                NBTTagList fluidOutputsList = compound.getTagList("FluidOutputs", Constants.NBT.TAG_COMPOUND);
+                this.fluidOutputs = new ArrayList<>();
+                for (int i = 0; i < fluidOutputsList.tagCount(); i++) {
+                    this.fluidOutputs.add(FluidStack.loadFluidStackFromNBT(fluidOutputsList.getCompoundTagAt(i)));
+                }
+            }
+        }
+    }
 }
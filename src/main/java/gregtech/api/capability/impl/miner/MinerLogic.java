@@ -26,27 +26,33 @@ import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import codechicken.lib.render.CCRenderState;
 import codechicken.lib.render.pipeline.IVertexOperation;
 import codechicken.lib.vec.Matrix4;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class MinerLogic {
 
-    private static final short MAX_SPEED = Short.MAX_VALUE;
-    private static final byte POWER = 5;
-    private static final byte TICK_TOLERANCE = 20;
-    private static final double DIVIDEND = MAX_SPEED * Math.pow(TICK_TOLERANCE, POWER);
+    // the most blocks a single scan reads before it continues on a later tick
+    private static final int MAX_BLOCKS_SCANNED_PER_TICK = 4096;
+
+    // whether a block state is an ore, computed once per state; miners of different worlds may share it
+    private static final Map<IBlockState, Boolean> ORE_STATES = new ConcurrentHashMap<>();
+    // the OreDictUnifier revision ORE_STATES was computed with
+    private static volatile int oreStatesRevision = -1;
 
     protected final MetaTileEntity metaTileEntity;
     protected final IMiner miner;
@@ -57,7 +63,7 @@ public class MinerLogic {
 
     private final ICubeRenderer PIPE_TEXTURE;
 
-    private final LinkedList<BlockPos> blocksToMine = new LinkedList<>();
+    private final LongArrayFIFOQueue blocksToMine = new LongArrayFIFOQueue();
 
     private final AtomicInteger x = new AtomicInteger(Integer.MAX_VALUE);
     private final AtomicInteger y = new AtomicInteger(Integer.MAX_VALUE);
@@ -73,6 +79,8 @@ public class MinerLogic {
     private int pipeLength = 0;
     private int currentRadius;
     private boolean isDone;
+    // whether the last scan ran out of its block budget before reaching the bottom of the world
+    private boolean scanPending;
     private boolean isActive = false;
     private boolean isWorkingEnabled = true;
     protected boolean wasActiveAndNeedsUpdate;
@@ -169,35 +177,41 @@ public class MinerLogic {
         // if there are blocks to mine and the correct amount of time has passed, do the mining
         if (metaTileEntity.getOffsetTimer() % this.speed == 0 && !blocksToMine.isEmpty()) {
             NonNullList<ItemStack> blockDrops = NonNullList.create();
-            IBlockState blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
+            BlockPos blockToMine = BlockPos.fromLong(blocksToMine.firstLong());
+            IBlockState blockState = metaTileEntity.getWorld().getBlockState(blockToMine);
 
             // check to make sure the ore is still there,
-            while (!GTUtility.isOre(GTUtility.toItem(blockState))) {
-                blocksToMine.removeFirst();
+            while (!isOre(blockState)) {
+                blocksToMine.dequeueLong();
                 if (blocksToMine.isEmpty()) break;
-                blockState = metaTileEntity.getWorld().getBlockState(blocksToMine.getFirst());
+                blockToMine = BlockPos.fromLong(blocksToMine.firstLong());
+                blockState = metaTileEntity.getWorld().getBlockState(blockToMine);
             }
             // When we are here we have an ore to mine! I'm glad we aren't threaded
-            if (!blocksToMine.isEmpty() & GTUtility.isOre(GTUtility.toItem(blockState))) {
+            if (!blocksToMine.isEmpty() & isOre(blockState)) {
                 // get the small ore drops, if a small ore
-                getSmallOreBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
+                getSmallOreBlockDrops(blockDrops, world, blockToMine, blockState);
                 // get the block's drops.
-                getRegularBlockDrops(blockDrops, world, blocksToMine.getFirst(), blockState);
+                getRegularBlockDrops(blockDrops, world, blockToMine, blockState);
                 // try to insert them
                 mineAndInsertItems(blockDrops, world);
             }
 
         }
 
-        if (blocksToMine.isEmpty()) {
-            // there were no blocks to mine, so the current position is the previous position
-            x.set(mineX.get());
-            y.set(mineY.get());
-            z.set(mineZ.get());
+        // an unfinished scan is continued by checkBlocksToMine on the next tick
+        if (blocksToMine.isEmpty() && !scanPending) {
+            if (y.get() > 0) {
+                // there were no blocks to mine, so the current position is the previous position
+                x.set(mineX.get());
+                y.set(mineY.get());
+                z.set(mineZ.get());
 
-            // attempt to get more blocks to mine, if there are none, the miner is done mining
-            blocksToMine.addAll(getBlocksToMine());
-            if (blocksToMine.isEmpty()) {
+                // attempt to get more blocks to mine
+                scanBlocksToMine();
+            }
+            // if the scan reached the bottom of the world without finding any, the miner is done mining
+            if (blocksToMine.isEmpty() && !scanPending) {
                 this.isDone = true;
                 this.wasActiveAndNeedsUpdate = true;
                 this.setActive(false);
@@ -284,11 +298,11 @@ public class MinerLogic {
         // remove the ore block's position from the mining queue
         if (GTTransferUtils.addItemsToItemHandler(metaTileEntity.getExportItems(), true, blockDrops)) {
             GTTransferUtils.addItemsToItemHandler(metaTileEntity.getExportItems(), false, blockDrops);
-            world.setBlockState(blocksToMine.getFirst(), oreReplacementBlock);
-            mineX.set(blocksToMine.getFirst().getX());
-            mineZ.set(blocksToMine.getFirst().getZ());
-            mineY.set(blocksToMine.getFirst().getY());
-            blocksToMine.removeFirst();
+            BlockPos blockToMine = BlockPos.fromLong(blocksToMine.dequeueLong());
+            world.setBlockState(blockToMine, oreReplacementBlock);
+            mineX.set(blockToMine.getX());
+            mineZ.set(blockToMine.getZ());
+            mineY.set(blockToMine.getY());
             onMineOperation();
 
             // if the inventory was previously considered full, mark it as not since an item was able to fit
@@ -337,7 +351,7 @@ public class MinerLogic {
      */
     public void checkBlocksToMine() {
         if (blocksToMine.isEmpty())
-            blocksToMine.addAll(getBlocksToMine());
+            scanBlocksToMine();
     }
 
     /**
@@ -353,85 +367,82 @@ public class MinerLogic {
     }
 
     /**
-     * Gets the blocks to mine
-     *
-     * @return a {@link LinkedList} of {@link BlockPos} for each ore to mine
-     */
-    private LinkedList<BlockPos> getBlocksToMine() {
-        LinkedList<BlockPos> blocks = new LinkedList<>();
-
-        // determine how many blocks to retrieve this time
-        double quotient = getQuotient(getMeanTickTime(metaTileEntity.getWorld()));
-        int calcAmount = quotient < 1 ? 1 : (int) (Math.min(quotient, Short.MAX_VALUE));
-        int calculated = 0;
-
-        // keep getting blocks until the target amount is reached
-        while (calculated < calcAmount) {
-            // moving down the y-axis
-            if (y.get() > 0) {
-                // moving across the z-axis
-                if (z.get() <= startZ.get() + currentRadius * 2) {
-                    // check every block along the x-axis
-                    if (x.get() <= startX.get() + currentRadius * 2) {
-                        BlockPos blockPos = new BlockPos(x.get(), y.get(), z.get());
-                        IBlockState state = metaTileEntity.getWorld().getBlockState(blockPos);
-                        if (state.getBlock().blockHardness >= 0 &&
-                                metaTileEntity.getWorld().getTileEntity(blockPos) == null &&
-                                GTUtility.isOre(GTUtility.toItem(state))) {
-                            blocks.addLast(blockPos);
+     * Scans the mining area for ores, one layer at a time from the top, until at least one ore was found or the
+     * bottom of the world is reached. The ores of a layer are queued in the order the miner mines them.
+     * <p>
+     * A scan reads at most {@link #MAX_BLOCKS_SCANNED_PER_TICK} blocks, so a run of barren layers is spread over
+     * several ticks. The scan position is kept after every row and the next scan continues from it.
+     * <p>
+     * Blocks are read directly from the chunk sections, and sections without blocks are skipped. Sections are not
+     * filtered by their palette, as the palettes are private to BlockStateContainer. The fixed block limit replaces
+     * the previous scaling of scans by the server's mean tick time.
+     */
+    private void scanBlocksToMine() {
+        World world = metaTileEntity.getWorld();
+        int revision = OreDictUnifier.getRevision();
+        if (revision != oreStatesRevision) {
+            // ore dictionary entries were added, e.g. by scripts, so cached results may be outdated
+            ORE_STATES.clear();
+            oreStatesRevision = revision;
+        }
+        int minX = startX.get();
+        int maxX = minX + currentRadius * 2;
+        int minZ = startZ.get();
+        int maxZ = minZ + currentRadius * 2;
+        int budget = MAX_BLOCKS_SCANNED_PER_TICK;
+
+        // moving down the y-axis
+        while (blocksToMine.isEmpty() && y.get() > 0 && budget > 0) {
+            int layer = y.get();
+            // continue from the position the previous scan stopped at
+            for (int blockZ = Math.max(z.get(), minZ); blockZ <= maxZ && budget > 0; blockZ++) {
+                int fromX = blockZ == z.get() ? Math.max(x.get(), minX) : minX;
+                scanRow(world, layer, blockZ, fromX, maxX);
+                budget -= maxX - fromX + 1;
+                x.set(minX);
+                z.set(blockZ + 1);
+            }
+            if (z.get() > maxZ) {
+                // reset x and z and move to the next y layer
+                x.set(minX);
+                z.set(minZ);
+                y.decrementAndGet();
+            }
+        }
+        this.scanPending = blocksToMine.isEmpty() && y.get() > 0;
+    }
+
+    /**
+     * Queues the ores in a row of blocks along the x-axis
+     */
+    private void scanRow(@NotNull World world, int layer, int blockZ, int fromX, int toX) {
+        int blockX = fromX;
+        while (blockX <= toX) {
+            int chunkEndX = Math.min(toX, blockX | 15);
+            Chunk chunk = world.getChunk(blockX >> 4, blockZ >> 4);
+            ExtendedBlockStorage storage = chunk.getBlockStorageArray()[layer >> 4];
+            // skip the part of the row in sections without blocks
+            if (storage != Chunk.NULL_BLOCK_STORAGE && !storage.isEmpty()) {
+                for (; blockX <= chunkEndX; blockX++) {
+                    IBlockState state = storage.get(blockX & 15, layer & 15, blockZ & 15);
+                    if (isOre(state) && state.getBlock().blockHardness >= 0) {
+                        BlockPos blockPos = new BlockPos(blockX, layer, blockZ);
+                        if (!state.getBlock().hasTileEntity(state) || world.getTileEntity(blockPos) == null) {
+                            blocksToMine.enqueue(blockPos.toLong());
                         }
-                        // move to the next x position
-                        x.incrementAndGet();
-                    } else {
-                        // reset x and move to the next z layer
-                        x.set(startX.get());
-                        z.incrementAndGet();
                     }
-                } else {
-                    // reset z and move to the next y layer
-                    z.set(startZ.get());
-                    y.decrementAndGet();
                 }
-            } else
-                return blocks;
-
-            // only count iterations where blocks were found
-            if (!blocks.isEmpty())
-                calculated++;
+            }
+            blockX = chunkEndX + 1;
         }
-        return blocks;
-    }
-
-    /**
-     * @param values to find the mean of
-     * @return the mean value
-     */
-    private static long mean(@NotNull long[] values) {
-        if (values.length == 0L)
-            return 0L;
-
-        long sum = 0L;
-        for (long v : values)
-            sum += v;
-        return sum / values.length;
-    }
-
-    /**
-     * @param world the {@link World} to get the average tick time of
-     * @return the mean tick time
-     */
-    private static double getMeanTickTime(@NotNull World world) {
-        return mean(Objects.requireNonNull(world.getMinecraftServer()).tickTimeArray) * 1.0E-6D;
     }
 
     /**
-     * gets the quotient for determining the amount of blocks to mine
-     *
-     * @param base is a value used for calculation, intended to be the mean tick time of the world the miner is in
-     * @return the quotient
+     * @param state the block state to check
+     * @return if the block state is an ore
      */
-    private static double getQuotient(double base) {
-        return DIVIDEND / Math.pow(base, POWER);
+    private static boolean isOre(@NotNull IBlockState state) {
+        return ORE_STATES.computeIfAbsent(state, s -> GTUtility.isOre(GTUtility.toItem(s)));
     }
 
     /**
@@ -71,10 +71,11 @@ public interface Cover {
     }
 
     /**
-     * Mark the CoverableView as needing to be saved to the chunk
+     * Mark the CoverableView as needing to be saved to the chunk. Also wakes the cover, as its settings changed.
      */
     default void markDirty() {
         getCoverableView().markDirty();
+        wakeUp();
     }
 
     /**
@@ -222,6 +223,19 @@ public interface Cover {
      */
     default void onRedstoneInputSignalChange(int redstone) {}
 
+    /**
+     * @return if the cover could not make progress recently, and does not need to be updated this tick
+     */
+    default boolean isSleeping() {
+        return false;
+    }
+
+    /**
+     * Called when something changed which may let a sleeping cover make progress again, like a neighbor, the
+     * redstone input or the contents of the CoverableView.
+     */
+    default void wakeUp() {}
+
     /**
      * @return the redstone signal being output from the cover
      */
@@ -1,6 +1,8 @@
 package gregtech.api.cover;
 
 import gregtech.api.util.GTUtility;
+import gregtech.api.util.profiler.ProfilerCategory;
+import gregtech.api.util.profiler.TickProfiler;
 import gregtech.client.utils.RenderUtil;
 
 import net.minecraft.block.Block;
@@ -80,13 +82,15 @@ public interface CoverHolder extends CoverableView {
     }
 
     /**
-     * Updates all covers. Should be called every tick.
+     * Updates all covers which are not sleeping. Should be called every tick.
      */
     default void updateCovers() {
         for (EnumFacing facing : EnumFacing.VALUES) {
             Cover cover = getCoverAtSide(facing);
-            if (cover instanceof ITickable tickable) {
+            if (cover instanceof ITickable tickable && !cover.isSleeping()) {
+                long start = TickProfiler.start(getWorld());
                 tickable.update();
+                TickProfiler.record(ProfilerCategory.COVER, cover.getClass(), start);
             }
         }
     }
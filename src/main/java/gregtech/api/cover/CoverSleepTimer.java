@@ -0,0 +1,64 @@
+package gregtech.api.cover;
+
+/**
+ * Tracks when a cover which could not make progress should be updated again.
+ * <p>
+ * Each idle attempt doubles the time until the next attempt, up to {@link #MAX_SLEEP_TICKS}, so covers also notice
+ * changes which do not cause a wake up event, like inventories which do not notify their neighbors.
+ */
+public class CoverSleepTimer {
+
+    public static final int MIN_SLEEP_TICKS = 10;
+    public static final int MAX_SLEEP_TICKS = 100;
+
+    private long wakeUpTime;
+    private int sleepTicks;
+    private long lastUpdateTime = -1;
+
+    /**
+     * @param time the current time
+     * @return if the cover should not be updated at the time
+     */
+    public boolean isSleeping(long time) {
+        return time < wakeUpTime;
+    }
+
+    /**
+     * Puts the cover to sleep after an attempt without progress.
+     *
+     * @param time the current time
+     */
+    public void sleep(long time) {
+        this.sleepTicks = sleepTicks == 0 ? MIN_SLEEP_TICKS : Math.min(sleepTicks * 2, MAX_SLEEP_TICKS);
+        this.wakeUpTime = time + sleepTicks;
+    }
+
+    /**
+     * Puts the cover to sleep until it is woken up, for example while it is disabled.
+     */
+    public void sleepUntilWoken() {
+        this.wakeUpTime = Long.MAX_VALUE;
+    }
+
+    /**
+     * Wakes the cover up, so it is updated on the next tick again. Also resets the back off, so covers should call
+     * this when they made progress.
+     */
+    public void wakeUp() {
+        this.wakeUpTime = 0;
+        this.sleepTicks = 0;
+    }
+
+    /**
+     * Records an update of the cover, so it can catch up on periodic actions it slept through.
+     *
+     * @param time     the current time
+     * @param interval the interval of the periodic action
+     * @return if a multiple of the interval passed between the previous update and now
+     */
+    public boolean onUpdate(long time, int interval) {
+        boolean missed = lastUpdateTime >= 0 && (time - 1) / interval > lastUpdateTime / interval;
+        this.lastUpdateTime = time;
+        return missed;
+    }
+}
@@ -74,7 +74,7 @@ public interface CoverWithUI extends Cover, IUIHolder, IGuiHolder<SidedPosGuiDat
 
     @Override
     default void markAsDirty() {
-        getCoverableView().markDirty();
+        markDirty();
     }
 
     /* Helper methods for UI creation with covers that are commonly used */
@@ -87,6 +87,28 @@ public interface CoverableView extends ICapabilityProvider {
      */
     int getInputRedstoneSignal(@NotNull EnumFacing side, boolean ignoreCover);
 
+    /**
+     * Wake up the cover at a side, for example when the neighbor at the side changed
+     *
+     * @param side the side of the cover
+     */
+    default void wakeUpCover(@NotNull EnumFacing side) {
+        Cover cover = getCoverAtSide(side);
+        if (cover != null) {
+            cover.wakeUp();
+        }
+    }
+
+    /**
+     * Wake up all attached covers, for example when the contents of the CoverableView changed
+     */
+    default void wakeUpCovers() {
+        if (!hasAnyCover()) return;
+        for (EnumFacing side : EnumFacing.VALUES) {
+            wakeUpCover(side);
+        }
+    }
+
     void writeCoverData(@NotNull Cover cover, int discriminator, @NotNull Consumer<@NotNull PacketBuffer> buf);
 
     /**
@@ -8,8 +8,10 @@ import gregtech.api.gui.widgets.SlotWidget;
 import gregtech.api.gui.widgets.WidgetUIAccess;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.PerTickIntCounter;
+import gregtech.core.network.NetworkUtils;
 import gregtech.core.network.packets.PacketUIClientAction;
 import gregtech.core.network.packets.PacketUIWidgetUpdate;
+import gregtech.core.network.packets.PacketUIWidgetUpdateBatch;
 
 import net.minecraft.client.entity.EntityPlayerSP;
 import net.minecraft.entity.player.EntityPlayer;
@@ -34,6 +36,12 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     public boolean accumulateWidgetUpdateData = false;
     public final List<PacketUIWidgetUpdate> accumulatedUpdates = new ArrayList<>();
 
+    // updates written while the widgets detect changes are collected and sent as one packet
+    private final PacketBuffer batchedUpdates = new PacketBuffer(Unpooled.buffer());
+    private final PacketBuffer updatePayload = new PacketBuffer(Unpooled.buffer());
+    private int batchedUpdateCount;
+    private boolean batchUpdates;
+
     public ModularUIContainer(ModularUI modularUI) {
         this.modularUI = modularUI;
         modularUI.guiWidgets.values().forEach(widget -> widget.setUiAccess(this));
@@ -110,7 +118,7 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     @Override
     public void addListener(@NotNull IContainerListener listener) {
         super.addListener(listener);
-        modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+        detectWidgetChanges();
     }
 
     @Override
@@ -135,10 +143,30 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     public void detectAndSendChanges() {
         super.detectAndSendChanges();
         if (listeners.size() > 0) {
+            detectWidgetChanges();
+        }
+    }
+
+    private void detectWidgetChanges() {
+        this.batchUpdates = true;
+        try {
             modularUI.guiWidgets.values().forEach(Widget::detectAndSendChanges);
+        } finally {
+            this.batchUpdates = false;
+            sendBatchedUpdates();
         }
     }
 
+    private void sendBatchedUpdates() {
+        if (batchedUpdateCount > 0 && modularUI.entityPlayer instanceof EntityPlayerMP player) {
+            // the packet is encoded right away, so the buffer can be reused afterwards
+            GregTechAPI.networkHandler.sendTo(
+                    new PacketUIWidgetUpdateBatch(windowId, batchedUpdateCount, batchedUpdates), player);
+        }
+        this.batchedUpdates.clear();
+        this.batchedUpdateCount = 0;
+    }
+
     @NotNull
     @Override
     public ItemStack slotClick(int slotId, int dragType, @NotNull ClickType clickTypeIn, @NotNull EntityPlayer player) {
@@ -254,6 +282,15 @@ public class ModularUIContainer extends Container implements WidgetUIAccess {
     @Override
     public void writeUpdateInfo(Widget widget, int updateId, Consumer<PacketBuffer> payloadWriter) {
         int widgetId = modularUI.guiWidgets.inverse().get(widget);
+        if (batchUpdates && !accumulateWidgetUpdateData) {
+            updatePayload.clear();
+            updatePayload.writeVarInt(updateId);
+            payloadWriter.accept(updatePayload);
+            batchedUpdates.writeVarInt(widgetId);
+            NetworkUtils.writePacketBuffer(batchedUpdates, updatePayload);
+            batchedUpdateCount++;
+            return;
+        }
         PacketBuffer packetBuffer = new PacketBuffer(Unpooled.buffer());
         packetBuffer.writeVarInt(updateId);
         payloadWriter.accept(packetBuffer);
@@ -4,6 +4,7 @@ import gregtech.api.gui.IRenderContext;
 import gregtech.api.gui.Widget;
 import gregtech.api.util.Position;
 import gregtech.api.util.Size;
+import gregtech.common.ConfigHolder;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
@@ -21,6 +22,8 @@ import net.minecraftforge.fml.client.config.GuiUtils;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.input.Mouse;
 
@@ -44,6 +47,12 @@ public class AdvancedTextWidget extends Widget {
     protected final Consumer<List<ITextComponent>> textSupplier;
     protected BiConsumer<String, ClickData> clickHandler;
     private List<ITextComponent> displayText = new ArrayList<>();
+    // server side list the text supplier writes into, swapped with the display text on changes
+    private List<ITextComponent> textBuffer = new ArrayList<>();
+    private final IntList changedLines = new IntArrayList();
+    private int updateTimer;
+    // client side text as received, before it is split to fit the width limit
+    private final List<ITextComponent> receivedText = new ArrayList<>();
     private final int color;
 
     public AdvancedTextWidget(int xPosition, int yPosition, Consumer<List<ITextComponent>> text, int color) {
@@ -116,17 +125,35 @@ public class AdvancedTextWidget extends Widget {
 
     @Override
     public void detectAndSendChanges() {
-        ArrayList<ITextComponent> textBuffer = new ArrayList<>();
-        textSupplier.accept(textBuffer);
-        if (!displayText.equals(textBuffer)) {
-            this.displayText = textBuffer;
-            writeUpdateInfo(1, buffer -> {
-                buffer.writeVarInt(displayText.size());
-                for (ITextComponent textComponent : displayText) {
-                    buffer.writeString(ITextComponent.Serializer.componentToJson(textComponent));
-                }
-            });
+        if (updateTimer > 0) {
+            updateTimer--;
+            return;
+        }
+        updateTimer = ConfigHolder.misc.displayTextUpdateInterval - 1;
+
+        List<ITextComponent> text = this.textBuffer;
+        text.clear();
+        textSupplier.accept(text);
+        changedLines.clear();
+        for (int i = 0; i < text.size(); i++) {
+            if (i >= displayText.size() || !displayText.get(i).equals(text.get(i))) {
+                changedLines.add(i);
+            }
         }
+        if (changedLines.isEmpty() && text.size() == displayText.size()) return;
+
+        this.textBuffer = displayText;
+        this.displayText = text;
+        // only send the lines which changed, the first update has every line changed
+        writeUpdateInfo(1, buffer -> {
+            buffer.writeVarInt(text.size());
+            buffer.writeVarInt(changedLines.size());
+            for (int i = 0; i < changedLines.size(); i++) {
+                int line = changedLines.getInt(i);
+                buffer.writeVarInt(line);
+                buffer.writeString(ITextComponent.Serializer.componentToJson(text.get(line)));
+            }
+        });
     }
 
     protected ITextComponent getTextUnderMouse(int mouseX, int mouseY) {
@@ -167,7 +194,7 @@ public class AdvancedTextWidget extends Widget {
     private void formatDisplayText() {
         FontRenderer fontRenderer = Minecraft.getMinecraft().fontRenderer;
         int maxTextWidthResult = maxWidthLimit == 0 ? Integer.MAX_VALUE : maxWidthLimit;
-        this.displayText = displayText.stream()
+        this.displayText = receivedText.stream()
                 .flatMap(c -> GuiUtilRenderComponents.splitText(c, maxTextWidthResult, fontRenderer, true, true)
                         .stream())
                 .collect(Collectors.toList());
@@ -176,11 +203,19 @@ public class AdvancedTextWidget extends Widget {
     @Override
     public void readUpdateInfo(int id, PacketBuffer buffer) {
         if (id == 1) {
-            this.displayText.clear();
-            int count = buffer.readVarInt();
-            for (int i = 0; i < count; i++) {
-                String jsonText = buffer.readString(32767);
-                this.displayText.add(ITextComponent.Serializer.jsonToComponent(jsonText));
+            int size = buffer.readVarInt();
+            while (receivedText.size() > size) {
+                receivedText.remove(receivedText.size() - 1);
+            }
+            int changed = buffer.readVarInt();
+            for (int i = 0; i < changed; i++) {
+                int line = buffer.readVarInt();
+                ITextComponent component = ITextComponent.Serializer.jsonToComponent(buffer.readString(32767));
+                if (line < receivedText.size()) {
+                    receivedText.set(line, component);
+                } else {
+                    receivedText.add(component);
+                }
             }
             formatDisplayText();
             updateComponentTextSize();
@@ -196,6 +231,8 @@ public class AdvancedTextWidget extends Widget {
             if (clickHandler != null) {
                 clickHandler.accept(componentData, clickData);
             }
+            // show the result of the click right away
+            updateTimer = 0;
         }
     }
 
@@ -29,5 +29,7 @@ public class GTItemStackHandler extends ItemStackHandler {
     protected void onContentsChanged(int slot) {
         super.onContentsChanged(slot);
         metaTileEntity.markDirty();
+        // covers waiting for items can make progress again
+        metaTileEntity.wakeUpCovers();
     }
 }
@@ -1,29 +1,46 @@
 package gregtech.api.items.toolitem;
 
+import gregtech.api.GTValues;
+import gregtech.common.ConfigHolder;
+
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
-import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
-import net.minecraftforge.fml.relauncher.Side;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
 
+/**
+ * Breaks the logs of a tree one block per tick. All fellings of a world are processed by a shared scheduler, which
+ * stops once the time budget of a tick is used up.
+ */
+@Mod.EventBusSubscriber(modid = GTValues.MODID)
 public final class TreeFellingListener {
 
+    private static final Map<World, Deque<TreeFellingListener>> ACTIVE_FELLINGS = new Object2ObjectOpenHashMap<>();
+
     private final EntityPlayerMP player;
     private final ItemStack tool;
-    private final Deque<BlockPos> orderedBlocks;
+    // packed positions, ordered from the lowest to the highest block
+    private final long[] orderedBlocks;
+    private int index;
 
-    private TreeFellingListener(EntityPlayerMP player, ItemStack tool, Deque<BlockPos> orderedBlocks) {
+    private TreeFellingListener(EntityPlayerMP player, ItemStack tool, long[] orderedBlocks) {
         this.player = player;
         this.tool = tool;
         this.orderedBlocks = orderedBlocks;
@@ -34,29 +51,29 @@ public final class TreeFellingListener {
         World world = player.world;
         Block block = state.getBlock();
         BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        int limit = ConfigHolder.tools.treeFellingBlockLimit;
 
-        Queue<BlockPos> checking = new ArrayDeque<>();
-        Set<BlockPos> visited = new ObjectOpenHashSet<>();
-        checking.add(start);
+        LongArrayFIFOQueue checking = new LongArrayFIFOQueue();
+        LongOpenHashSet visited = new LongOpenHashSet();
+        LongArrayList found = new LongArrayList();
+        checking.enqueue(start.toLong());
+        visited.add(start.toLong());
 
+        search:
         while (!checking.isEmpty()) {
-            BlockPos check = checking.remove();
-            if (check != start) {
-                visited.add(check);
-            }
+            BlockPos check = BlockPos.fromLong(checking.dequeueLong());
             for (int y = 0; y <= 1; y++) {
                 for (int x = -1; x <= 1; x++) {
                     for (int z = -1; z <= 1; z++) {
                         if (x != 0 || y != 0 || z != 0) {
                             mutablePos.setPos(check.getX() + x, check.getY() + y, check.getZ() + z);
-                            if (!visited.contains(mutablePos)) {
-                                // Check that the found block matches the original block state, which is wood.
-                                if (block == world.getBlockState(mutablePos).getBlock()) {
-                                    if (!checking.contains(mutablePos)) {
-                                        BlockPos immutablePos = mutablePos.toImmutable();
-                                        checking.add(immutablePos);
-                                    }
-                                }
+                            long pos = mutablePos.toLong();
+                            if (!visited.add(pos)) continue;
+                            // Check that the found block matches the original block state, which is wood.
+                            if (block == world.getBlockState(mutablePos).getBlock()) {
+                                found.add(pos);
+                                if (found.size() >= limit) break search;
+                                checking.enqueue(pos);
                             }
                         }
                     }
@@ -64,22 +81,56 @@ public final class TreeFellingListener {
             }
         }
 
-        if (!visited.isEmpty()) {
-            Deque<BlockPos> orderedBlocks = visited.stream()
-                    .sorted(Comparator.comparingInt(pos -> start.getY() - pos.getY()))
-                    .collect(Collectors.toCollection(ArrayDeque::new));
-            MinecraftForge.EVENT_BUS.register(new TreeFellingListener(player, tool, orderedBlocks));
+        if (!found.isEmpty()) {
+            long[] orderedBlocks = found.toLongArray();
+            LongArrays.quickSort(orderedBlocks, (a, b) -> Integer.compare(getY(a), getY(b)));
+            ACTIVE_FELLINGS.computeIfAbsent(world, k -> new ArrayDeque<>())
+                    .add(new TreeFellingListener(player, tool, orderedBlocks));
         }
     }
 
+    /**
+     * @return the y coordinate of a position packed by {@link BlockPos#toLong()}
+     */
+    private static int getY(long pos) {
+        return (int) (pos << 26 >> 52);
+    }
+
+    /**
+     * Breaks the next block of this tree
+     *
+     * @return if there are blocks left to break
+     */
+    private boolean breakNext() {
+        if (index >= orderedBlocks.length || tool.isEmpty() || player.hasDisconnected()) {
+            return false;
+        }
+        ToolHelper.breakBlockRoutine(player, tool, BlockPos.fromLong(orderedBlocks[index++]));
+        return index < orderedBlocks.length;
+    }
+
     @SubscribeEvent
-    public void onWorldTick(@NotNull TickEvent.WorldTickEvent event) {
-        if (event.phase == TickEvent.Phase.START && event.world == player.world && event.side == Side.SERVER) {
-            if (orderedBlocks.isEmpty() || tool.isEmpty()) {
-                MinecraftForge.EVENT_BUS.unregister(this);
-                return;
+    public static void onWorldTick(@NotNull TickEvent.WorldTickEvent event) {
+        if (event.phase != TickEvent.Phase.START || event.world.isRemote) return;
+        Deque<TreeFellingListener> fellings = ACTIVE_FELLINGS.get(event.world);
+        if (fellings == null) return;
+
+        long deadline = System.nanoTime() + ConfigHolder.tools.treeFellingTickBudget * 1000L;
+        // each felling breaks at most one block per tick, fellings which were not processed go first next tick
+        for (int i = fellings.size(); i > 0; i--) {
+            TreeFellingListener felling = fellings.poll();
+            if (felling.breakNext()) {
+                fellings.add(felling);
             }
-            ToolHelper.breakBlockRoutine(player, tool, orderedBlocks.removeLast());
+            if (System.nanoTime() >= deadline) break;
+        }
+        if (fellings.isEmpty()) {
+            ACTIVE_FELLINGS.remove(event.world);
         }
     }
+
+    @SubscribeEvent
+    public static void onWorldUnload(@NotNull WorldEvent.Unload event) {
+        ACTIVE_FELLINGS.remove(event.getWorld());
+    }
 }
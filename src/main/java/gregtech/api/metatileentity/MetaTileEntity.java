@@ -23,6 +23,7 @@ import gregtech.api.items.toolitem.ToolClasses;
 import gregtech.api.items.toolitem.ToolHelper;
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.metatileentity.interfaces.ISyncedTileEntity;
+import gregtech.api.metatileentity.multiblock.MultiblockStructureIndex;
 import gregtech.api.mui.GTGuiTheme;
 import gregtech.api.mui.GregTechGuiScreen;
 import gregtech.api.mui.factory.MetaTileEntityGuiFactory;
@@ -31,6 +32,8 @@ import gregtech.api.util.GTLog;
 import gregtech.api.util.GTTransferUtils;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.Mods;
+import gregtech.api.util.profiler.ProfilerCategory;
+import gregtech.api.util.profiler.TickProfiler;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.utils.BloomEffectUtil;
 import gregtech.common.ConfigHolder;
@@ -370,6 +373,7 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
     }
 
     public <T> void addNotifiedInput(T input) {
+        wakeUpCovers();
         if (input instanceof IItemHandlerModifiable) {
             if (!notifiedItemInputList.contains(input)) {
                 this.notifiedItemInputList.add((IItemHandlerModifiable) input);
@@ -382,6 +386,7 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
     }
 
     public <T> void addNotifiedOutput(T output) {
+        wakeUpCovers();
         if (output instanceof IItemHandlerModifiable) {
             if (!notifiedItemOutputList.contains(output)) {
                 this.notifiedItemOutputList.add((IItemHandlerModifiable) output);
@@ -768,6 +773,7 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
                 Cover cover = getCoverAtSide(side);
                 if (cover != null) {
                     cover.onRedstoneInputSignalChange(redstoneValue);
+                    cover.wakeUp();
                 }
             }
         }
@@ -820,7 +826,9 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
         }
         for (MTETrait mteTrait : this.mteTraits.values()) {
             if (shouldUpdate(mteTrait)) {
+                long start = TickProfiler.start(getWorld());
                 mteTrait.update();
+                TickProfiler.record(ProfilerCategory.TRAIT, mteTrait.getClass(), start);
             }
         }
         if (!getWorld().isRemote) {
@@ -1204,6 +1212,11 @@ public abstract class MetaTileEntity implements ISyncedTileEntity, CoverHolder,
         this.frontFacing = frontFacing;
         if (getWorld() != null && !getWorld().isRemote) {
             notifyBlockUpdate();
+            // structures can depend on the facing of their parts, which does not change the block state
+            MultiblockStructureIndex structureIndex = MultiblockStructureIndex.get(getWorld());
+            if (structureIndex != null) {
+                structureIndex.markChanged(getPos());
+            }
             markDirty();
             writeCustomData(UPDATE_FRONT_FACING, buf -> buf.writeByte(frontFacing.getIndex()));
             for (MTETrait mteTrait : this.mteTraits.values()) {
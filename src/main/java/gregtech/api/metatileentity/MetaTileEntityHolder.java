@@ -9,6 +9,8 @@ import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.Mods;
 import gregtech.api.util.TextFormattingUtil;
+import gregtech.api.util.profiler.ProfilerCategory;
+import gregtech.api.util.profiler.TickProfiler;
 import gregtech.client.particle.GTNameTagParticle;
 import gregtech.client.particle.GTParticleManager;
 import gregtech.common.ConfigHolder;
@@ -206,6 +208,7 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
 
         if (!world.isRemote && metaTileEntity != null && getMetaTileEntity().isValid()) {
             tickTime = System.nanoTime() - tickTime;
+            TickProfiler.recordNanos(ProfilerCategory.MACHINE, getMetaTileEntity().getClass(), tickTime);
             if (timeStatistics.length > 0) {
                 timeStatistics[timeStatisticsIndex] = (int) tickTime;
                 timeStatisticsIndex = (timeStatisticsIndex + 1) % timeStatistics.length;
@@ -353,6 +356,14 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IGre
         return getPos();
     }
 
+    @Override
+    public void onNeighborChanged(@NotNull EnumFacing facing) {
+        super.onNeighborChanged(facing);
+        if (metaTileEntity != null) {
+            metaTileEntity.wakeUpCover(facing);
+        }
+    }
+
     @SuppressWarnings("ConstantConditions") // yes this CAN actually be null
     @Override
     public void markAsDirty() {
@@ -1,10 +1,12 @@
 package gregtech.api.metatileentity;
 
 import gregtech.api.block.BlockStateTileEntity;
+import gregtech.api.capability.GregtechDataCodes;
 import gregtech.api.metatileentity.interfaces.IGregTechTileEntity;
 import gregtech.api.metatileentity.interfaces.ISyncedTileEntity;
 import gregtech.api.network.PacketDataList;
 import gregtech.api.util.GTLog;
+import gregtech.core.network.CustomDataBatcher;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTBase;
@@ -15,6 +17,7 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.network.play.server.SPacketUpdateTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.util.Constants;
 
 import io.netty.buffer.ByteBuf;
@@ -39,7 +42,11 @@ public abstract class SyncedTileEntityBase extends BlockStateTileEntity implemen
         ByteBuf backedBuffer = Unpooled.buffer();
         dataWriter.accept(new PacketBuffer(backedBuffer));
         byte[] updateData = Arrays.copyOfRange(backedBuffer.array(), 0, backedBuffer.writerIndex());
-        this.updates.add(discriminator, updateData);
+        if (GregtechDataCodes.isReplaceable(discriminator)) {
+            this.updates.addOrReplace(discriminator, updateData);
+        } else {
+            this.updates.add(discriminator, updateData);
+        }
         notifyWorld();
     }
 
@@ -67,6 +74,11 @@ public abstract class SyncedTileEntityBase extends BlockStateTileEntity implemen
         if (this.updates.isEmpty()) {
             return null;
         }
+        if (world instanceof WorldServer) {
+            // sent together with the data of the other tiles in the chunk at the end of the tick
+            CustomDataBatcher.queue(world, getPos(), this.updates);
+            return null;
+        }
         NBTTagCompound updateTag = new NBTTagCompound();
         updateTag.setTag("d", this.updates.dumpToNbt());
         return new SPacketUpdateTileEntity(getPos(), 0, updateTag);
@@ -79,22 +91,37 @@ public abstract class SyncedTileEntityBase extends BlockStateTileEntity implemen
         for (NBTBase entryBase : listTag) {
             NBTTagCompound entryTag = (NBTTagCompound) entryBase;
             for (String discriminatorKey : entryTag.getKeySet()) {
-                ByteBuf backedBuffer = Unpooled.copiedBuffer(entryTag.getByteArray(discriminatorKey));
-                receiveCustomData(Integer.parseInt(discriminatorKey), new PacketBuffer(backedBuffer));
-                if (backedBuffer.readableBytes() != 0) {
-                    String className = null;
-                    if (this instanceof IGregTechTileEntity gtte) {
-                        MetaTileEntity mte = gtte.getMetaTileEntity();
-                        if (mte != null) className = mte.getClass().getName();
-                    }
-                    if (className == null) {
-                        className = this.getClass().getName();
-                    }
-                    GTLog.logger.error(
-                            "Class {} failed to finish reading receiveCustomData with discriminator {} and {} bytes remaining",
-                            className, discriminatorKey, backedBuffer.readableBytes());
-                }
+                readCustomData(Integer.parseInt(discriminatorKey), entryTag.getByteArray(discriminatorKey));
+            }
+        }
+    }
+
+    /**
+     * Receives a batch of data packets written with {@link #writeCustomData(int, Consumer)}.
+     *
+     * @param dataList the data packets, in the order they were written
+     */
+    public final void receiveCustomData(@NotNull PacketDataList dataList) {
+        for (int i = 0; i < dataList.size(); i++) {
+            readCustomData(dataList.getDiscriminator(i), dataList.getData(i));
+        }
+    }
+
+    private void readCustomData(int discriminator, byte[] data) {
+        ByteBuf backedBuffer = Unpooled.wrappedBuffer(data);
+        receiveCustomData(discriminator, new PacketBuffer(backedBuffer));
+        if (backedBuffer.readableBytes() != 0) {
+            String className = null;
+            if (this instanceof IGregTechTileEntity gtte) {
+                MetaTileEntity mte = gtte.getMetaTileEntity();
+                if (mte != null) className = mte.getClass().getName();
+            }
+            if (className == null) {
+                className = this.getClass().getName();
             }
+            GTLog.logger.error(
+                    "Class {} failed to finish reading receiveCustomData with discriminator {} and {} bytes remaining",
+                    className, discriminator, backedBuffer.readableBytes());
         }
     }
 
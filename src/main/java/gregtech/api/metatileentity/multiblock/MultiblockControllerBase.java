@@ -20,6 +20,7 @@ import gregtech.client.renderer.ICubeRenderer;
 import gregtech.client.renderer.handler.MultiblockPreviewRenderer;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.renderer.texture.cube.SimpleOrientedCubeRenderer;
+import gregtech.common.ConfigHolder;
 import gregtech.common.blocks.MetaBlocks;
 
 import net.minecraft.block.Block;
@@ -67,6 +68,9 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
     private final Map<MultiblockAbility<Object>, List<Object>> multiblockAbilities = new HashMap<>();
     private final List<IMultiblockPart> multiblockParts = new ArrayList<>();
     private boolean structureFormed;
+    // set when a block of the indexed structure changed, see MultiblockStructureIndex
+    private boolean structureDirty;
+    private long lastStructureCheck;
 
     protected EnumFacing upwardsFacing = EnumFacing.NORTH;
     protected boolean isFlipped;
@@ -89,7 +93,7 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
     public void update() {
         super.update();
         if (!getWorld().isRemote) {
-            if (getOffsetTimer() % 20 == 0 || isFirstTick()) {
+            if (isFirstTick() || (getOffsetTimer() % 20 == 0 && shouldCheckStructure())) {
                 checkStructurePattern();
             }
             // DummyWorld is the world for the JEI preview. We do not want to update the Multi in this world,
@@ -317,8 +321,64 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         return BlockPos::hashCode;
     }
 
+    /**
+     * @return if the structure should be checked now. Formed structures known to the {@link MultiblockStructureIndex}
+     *         are only checked when one of their blocks changed, or rarely as a fallback.
+     */
+    protected boolean shouldCheckStructure() {
+        if (!structureFormed || structureDirty || !canSkipStructureChecks()) return true;
+        MultiblockStructureIndex index = MultiblockStructureIndex.get(getWorld());
+        if (index == null || !index.isRegistered(this)) return true;
+        return getOffsetTimer() - lastStructureCheck >= ConfigHolder.machines.structureCheckFallbackInterval;
+    }
+
+    /**
+     * Override to return false if the structure depends on more than the block states and the facing of its parts,
+     * such as other state of their tile entities. Such structures are checked every interval even when formed.
+     *
+     * @return if checks of the formed structure can be skipped while none of its blocks changed
+     */
+    protected boolean canSkipStructureChecks() {
+        return true;
+    }
+
+    /**
+     * Marks the structure to be checked on the next structure check interval
+     */
+    public void markStructureDirty() {
+        this.structureDirty = true;
+    }
+
+    /**
+     * @param pos the packed position
+     * @return if the position is part of the currently matched structure
+     */
+    public boolean isInStructure(long pos) {
+        return structurePattern != null && structurePattern.cache.containsKey(pos);
+    }
+
+    private void updateStructureIndex() {
+        MultiblockStructureIndex index = MultiblockStructureIndex.get(getWorld());
+        if (index == null) return;
+        if (structureFormed && structurePattern != null && !structurePattern.cache.isEmpty()) {
+            index.register(this, structurePattern.cache.keySet());
+        } else {
+            index.unregister(this);
+        }
+    }
+
     public void checkStructurePattern() {
         if (structurePattern == null) return;
+        this.structureDirty = false;
+        this.lastStructureCheck = getOffsetTimer();
+        try {
+            checkStructurePatternInternal();
+        } finally {
+            updateStructureIndex();
+        }
+    }
+
+    private void checkStructurePatternInternal() {
         PatternMatchContext context = structurePattern.checkPatternFastAt(getWorld(), getPos(),
                 getFrontFacing().getOpposite(), getUpwardsFacing(), allowsFlip());
         if (context != null && !structureFormed) {
@@ -368,6 +428,9 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         this.structureFormed = false;
         this.setFlipped(false);
         writeCustomData(STRUCTURE_FORMED, buf -> buf.writeBoolean(false));
+        if (!getWorld().isRemote) {
+            updateStructureIndex();
+        }
     }
 
     @Override
@@ -378,6 +441,17 @@ public abstract class MultiblockControllerBase extends MetaTileEntity implements
         }
     }
 
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        if (getWorld() != null && !getWorld().isRemote) {
+            MultiblockStructureIndex index = MultiblockStructureIndex.get(getWorld());
+            if (index != null) {
+                index.unregister(this);
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public <T> List<T> getAbilities(MultiblockAbility<T> ability) {
         List<T> rawList = (List<T>) multiblockAbilities.getOrDefault(ability, Collections.emptyList());
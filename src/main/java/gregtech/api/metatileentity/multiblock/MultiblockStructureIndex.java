@@ -0,0 +1,192 @@
+package gregtech.api.metatileentity.multiblock;
+
+import gregtech.api.GTValues;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-world index of the chunks the blocks of formed multiblock structures are in.
+ * <p>
+ * Listens to block changes in the world, and marks the structure of a controller for checking when one of the
+ * blocks its pattern matched against changes. Controllers with an indexed structure do not need to poll it.
+ */
+@Mod.EventBusSubscriber(modid = GTValues.MODID)
+public class MultiblockStructureIndex implements IWorldEventListener {
+
+    private static final Map<World, MultiblockStructureIndex> INDEXES = new Object2ObjectOpenHashMap<>();
+
+    private final Long2ObjectMap<Set<MultiblockControllerBase>> controllersByChunk = new Long2ObjectOpenHashMap<>();
+    private final Map<MultiblockControllerBase, LongSet> chunksByController = new Object2ObjectOpenHashMap<>();
+
+    /**
+     * @return the index for the world, or null if the world has no index, such as on the client
+     */
+    @Nullable
+    public static MultiblockStructureIndex get(@NotNull World world) {
+        return INDEXES.get(world);
+    }
+
+    @SubscribeEvent
+    public static void onWorldLoad(WorldEvent.Load event) {
+        World world = event.getWorld();
+        if (world.isRemote) return;
+        MultiblockStructureIndex index = new MultiblockStructureIndex();
+        INDEXES.put(world, index);
+        world.addEventListener(index);
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        World world = event.getWorld();
+        MultiblockStructureIndex index = INDEXES.remove(world);
+        if (index != null) {
+            world.removeEventListener(index);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        MultiblockStructureIndex index = INDEXES.get(event.getWorld());
+        if (index == null) return;
+        // the tile entities of a structure are replaced when its chunk is loaded again
+        Set<MultiblockControllerBase> controllers = index.controllersByChunk
+                .get(ChunkPos.asLong(event.getChunk().x, event.getChunk().z));
+        if (controllers != null) {
+            for (MultiblockControllerBase controller : controllers) {
+                controller.markStructureDirty();
+            }
+        }
+    }
+
+    /**
+     * Indexes the structure of a controller, replacing its previous structure.
+     *
+     * @param controller the controller
+     * @param positions  the packed positions of the blocks in the structure
+     */
+    public void register(@NotNull MultiblockControllerBase controller, @NotNull LongSet positions) {
+        unregister(controller);
+        LongSet chunks = new LongOpenHashSet();
+        LongIterator iterator = positions.iterator();
+        while (iterator.hasNext()) {
+            BlockPos pos = BlockPos.fromLong(iterator.nextLong());
+            chunks.add(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        }
+        iterator = chunks.iterator();
+        while (iterator.hasNext()) {
+            long chunk = iterator.nextLong();
+            Set<MultiblockControllerBase> controllers = controllersByChunk.get(chunk);
+            if (controllers == null) {
+                controllers = new ObjectOpenHashSet<>();
+                controllersByChunk.put(chunk, controllers);
+            }
+            controllers.add(controller);
+        }
+        chunksByController.put(controller, chunks);
+    }
+
+    public void unregister(@NotNull MultiblockControllerBase controller) {
+        LongSet chunks = chunksByController.remove(controller);
+        if (chunks == null) return;
+        LongIterator iterator = chunks.iterator();
+        while (iterator.hasNext()) {
+            long chunk = iterator.nextLong();
+            Set<MultiblockControllerBase> controllers = controllersByChunk.get(chunk);
+            if (controllers != null && controllers.remove(controller) && controllers.isEmpty()) {
+                controllersByChunk.remove(chunk);
+            }
+        }
+    }
+
+    public boolean isRegistered(@NotNull MultiblockControllerBase controller) {
+        return chunksByController.containsKey(controller);
+    }
+
+    @Override
+    public void notifyBlockUpdate(@NotNull World world, @NotNull BlockPos pos, @NotNull IBlockState oldState,
+                                  @NotNull IBlockState newState, int flags) {
+        // tile entities also send unchanged states to sync with clients
+        if (oldState == newState) return;
+        markChanged(pos);
+    }
+
+    /**
+     * Marks the structures containing a position to be checked again. Called for block state changes, and for changes
+     * to the state of tile entities which patterns can depend on, such as the facing of a part.
+     *
+     * @param pos the position which changed
+     */
+    public void markChanged(@NotNull BlockPos pos) {
+        Set<MultiblockControllerBase> controllers = controllersByChunk
+                .get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (controllers == null) return;
+        long key = pos.toLong();
+        for (MultiblockControllerBase controller : controllers) {
+            if (controller.isInStructure(key)) {
+                controller.markStructureDirty();
+            }
+        }
+    }
+
+    @Override
+    public void notifyLightSet(@NotNull BlockPos pos) {}
+
+    @Override
+    public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {}
+
+    @Override
+    public void playSoundToAllNearExcept(@Nullable EntityPlayer player, @NotNull SoundEvent sound,
+                                         @NotNull SoundCategory category, double x, double y, double z, float volume,
+                                         float pitch) {}
+
+    @Override
+    public void playRecord(@NotNull SoundEvent sound, @NotNull BlockPos pos) {}
+
+    @Override
+    public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord,
+                              double xSpeed, double ySpeed, double zSpeed, int... parameters) {}
+
+    @Override
+    public void spawnParticle(int id, boolean ignoreRange, boolean minimiseParticleLevel, double x, double y,
+                              double z, double xSpeed, double ySpeed, double zSpeed, int... parameters) {}
+
+    @Override
+    public void onEntityAdded(@NotNull Entity entity) {}
+
+    @Override
+    public void onEntityRemoved(@NotNull Entity entity) {}
+
+    @Override
+    public void broadcastSound(int soundID, @NotNull BlockPos pos, int data) {}
+
+    @Override
+    public void playEvent(@Nullable EntityPlayer player, int type, @NotNull BlockPos blockPos, int data) {}
+
+    @Override
+    public void sendBlockBreakProgress(int breakerId, @NotNull BlockPos pos, int progress) {}
+}
@@ -2,6 +2,7 @@ package gregtech.api.network;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.network.PacketBuffer;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -53,6 +54,29 @@ public class PacketDataList {
         this.size++;
     }
 
+    /**
+     * Adds a discriminator - data pair to the list, and removes all previous data with the same discriminator.
+     * Only use this for data which completely replaces the previous data with the same discriminator.
+     *
+     * @param discriminator data id
+     * @param data          data
+     */
+    public void addOrReplace(int discriminator, byte[] data) {
+        int j = 0;
+        for (int i = 0; i < this.size; i++) {
+            if (this.discriminators[i] != discriminator) {
+                this.discriminators[j] = this.discriminators[i];
+                this.data[j] = this.data[i];
+                j++;
+            }
+        }
+        for (int i = j; i < this.size; i++) {
+            this.data[i] = null;
+        }
+        this.size = j;
+        add(discriminator, data);
+    }
+
     /**
      * Adds all discriminator - data pairs from another list.
      * This does not check if the other list is empty or the same list.
@@ -66,6 +90,22 @@ public class PacketDataList {
         this.size += dataList.size;
     }
 
+    /**
+     * @param index index of the data packet
+     * @return the discriminator of the data packet
+     */
+    public int getDiscriminator(int index) {
+        return this.discriminators[index];
+    }
+
+    /**
+     * @param index index of the data packet
+     * @return the data of the data packet
+     */
+    public byte[] getData(int index) {
+        return this.data[index];
+    }
+
     /**
      * @return amount of data packets
      */
@@ -108,4 +148,33 @@ public class PacketDataList {
         this.size = 0;
         return listTag;
     }
+
+    /**
+     * Writes all discriminator - data pairs to a buffer, with varint discriminators and lengths.
+     * Also removes all data packets from this list.
+     *
+     * @param buf buffer to write to
+     */
+    public void dumpToBuffer(@NotNull PacketBuffer buf) {
+        buf.writeVarInt(this.size);
+        for (int i = 0; i < this.size; i++) {
+            buf.writeVarInt(this.discriminators[i]);
+            buf.writeByteArray(this.data[i]);
+            this.data[i] = null;
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Reads discriminator - data pairs written by {@link #dumpToBuffer(PacketBuffer)} and adds them to this list.
+     *
+     * @param buf buffer to read from
+     */
+    public void readFromBuffer(@NotNull PacketBuffer buf) {
+        int count = buf.readVarInt();
+        ensureSize(this.size + count);
+        for (int i = 0; i < count; i++) {
+            add(buf.readVarInt(), buf.readByteArray());
+        }
+    }
 }
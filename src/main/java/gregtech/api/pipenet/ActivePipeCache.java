@@ -0,0 +1,88 @@
+package gregtech.api.pipenet;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Keeps all pipes of a net active while the net is in use.
+ * <p>
+ * The pipe tile entities are looked up once and cached until {@link #invalidate()} is called, which the net has to do
+ * whenever its nodes change or a chunk unloads. While the net is in use, the pipes are only set active again shortly
+ * before they would become inactive.
+ *
+ * @param <T> the type of the pipe tile entities
+ */
+public class ActivePipeCache<T extends TileEntity> {
+
+    /**
+     * How long pipes stay active after the net was used
+     */
+    public static final int ACTIVE_DURATION = 100;
+
+    /**
+     * How many ticks before the pipes become inactive they are kept active, if the net is still in use
+     */
+    private static final int ACTIVE_REFRESH_MARGIN = 20;
+
+    private final PipeNet<?> net;
+    private final Class<T> pipeClass;
+    private final ObjIntConsumer<T> activator;
+    // all pipes of the net, resolved when they are set active
+    private List<T> pipes;
+    private long activeUntil;
+
+    /**
+     * @param net       the net whose pipes are cached
+     * @param pipeClass the type of the pipe tile entities
+     * @param activator sets a pipe active for the given duration
+     */
+    public ActivePipeCache(@NotNull PipeNet<?> net, @NotNull Class<T> pipeClass,
+                           @NotNull ObjIntConsumer<T> activator) {
+        this.net = net;
+        this.pipeClass = pipeClass;
+        this.activator = activator;
+    }
+
+    /**
+     * Keeps all pipes of the net active for {@link #ACTIVE_DURATION} ticks
+     *
+     * @param world the world of the net
+     */
+    public void setActive(@NotNull World world) {
+        long time = world.getTotalWorldTime();
+        if (time < activeUntil - ACTIVE_REFRESH_MARGIN) return;
+        if (pipes == null) {
+            pipes = new ArrayList<>(net.getAllNodes().size());
+            for (BlockPos pos : net.getAllNodes().keySet()) {
+                TileEntity tileEntity = world.getTileEntity(pos);
+                if (pipeClass.isInstance(tileEntity)) {
+                    pipes.add(pipeClass.cast(tileEntity));
+                }
+            }
+        }
+        for (T pipe : pipes) {
+            if (pipe.isInvalid()) {
+                // a pipe was unloaded or replaced, look them up again next time
+                invalidate();
+                return;
+            }
+            activator.accept(pipe, ACTIVE_DURATION);
+        }
+        this.activeUntil = time + ACTIVE_DURATION;
+    }
+
+    /**
+     * Drops the cached pipes, so they are looked up again the next time they are set active
+     */
+    public void invalidate() {
+        this.pipes = null;
+        this.activeUntil = 0;
+    }
+}
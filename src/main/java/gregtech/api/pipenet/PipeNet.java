@@ -2,6 +2,7 @@ package gregtech.api.pipenet;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockPos.MutableBlockPos;
@@ -10,21 +11,29 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.INBTSerializable;
 
+import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
 public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCompound> {
 
+    // bits of the flags byte of a node in the packed format
+    private static final int PACKED_CONNECTIONS = 0x3F;
+    private static final int PACKED_ACTIVE = 0x40;
+    private static final int PACKED_HAS_MARK = 0x80;
+
     protected final WorldPipeNet<NodeDataType, PipeNet<NodeDataType>> worldData;
     private final Map<BlockPos, Node<NodeDataType>> nodeByBlockPos = new HashMap<>();
     private final Map<BlockPos, Node<NodeDataType>> unmodifiableNodeByBlockPos = Collections
@@ -66,6 +75,14 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
      */
     public void onPipeConnectionsUpdate() {}
 
+    /**
+     * Is called when a connection of the pipe at the given position changes.
+     * Calls {@link #onPipeConnectionsUpdate()} by default.
+     */
+    public void onPipeConnectionsUpdate(BlockPos pipePos) {
+        onPipeConnectionsUpdate();
+    }
+
     public void onNeighbourUpdate(BlockPos fromPos) {}
 
     /**
@@ -73,6 +90,14 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
      */
     public void onChunkUnload() {}
 
+    /**
+     * Is called when the Pipe TE at the given position is unloaded.
+     * Calls {@link #onChunkUnload()} by default.
+     */
+    public void onChunkUnload(BlockPos pipePos) {
+        onChunkUnload();
+    }
+
     public Map<BlockPos, Node<NodeDataType>> getAllNodes() {
         return unmodifiableNodeByBlockPos;
     }
@@ -392,7 +417,7 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     @Override
     public NBTTagCompound serializeNBT() {
         NBTTagCompound compound = new NBTTagCompound();
-        compound.setTag("Nodes", serializeAllNodeList(nodeByBlockPos));
+        compound.setTag("Nodes", serializePackedNodeList(nodeByBlockPos));
         return compound;
     }
 
@@ -400,9 +425,103 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
     public void deserializeNBT(NBTTagCompound nbt) {
         this.nodeByBlockPos.clear();
         this.ownedChunks.clear();
-        deserializeAllNodeList(nbt.getCompoundTag("Nodes"));
+        NBTTagCompound nodes = nbt.getCompoundTag("Nodes");
+        if (nodes.hasKey("Packed", NBT.TAG_BYTE_ARRAY)) {
+            deserializePackedNodeList(nodes);
+        } else {
+            // nets saved before the packed format, written in the packed format on the next save
+            deserializeAllNodeList(nodes);
+        }
     }
 
+    /**
+     * Deserializes nodes written by {@link #serializePackedNodeList(Map)}
+     */
+    protected void deserializePackedNodeList(NBTTagCompound compound) {
+        NBTTagList paletteList = compound.getTagList("Palette", NBT.TAG_COMPOUND);
+        List<NodeDataType> palette = new ArrayList<>(paletteList.tagCount());
+        for (int i = 0; i < paletteList.tagCount(); i++) {
+            palette.add(readNodeData(paletteList.getCompoundTagAt(i)));
+        }
+
+        PacketBuffer buf = new PacketBuffer(Unpooled.wrappedBuffer(compound.getByteArray("Packed")));
+        int size = buf.readVarInt();
+        long pos = 0;
+        for (int i = 0; i < size; i++) {
+            pos += buf.readVarLong();
+            NodeDataType nodeData = palette.get(buf.readVarInt());
+            int flags = buf.readUnsignedByte();
+            int mark = (flags & PACKED_HAS_MARK) != 0 ? buf.readVarInt() : Node.DEFAULT_MARK;
+            addNodeSilently(BlockPos.fromLong(pos),
+                    new Node<>(nodeData, flags & PACKED_CONNECTIONS, mark, (flags & PACKED_ACTIVE) != 0));
+        }
+    }
+
+    /**
+     * Serializes all nodes into a single byte array, together with a palette of the distinct node data.
+     * Positions are sorted and delta encoded, and the connections, mark and active state of a node share one byte.
+     */
+    protected NBTTagCompound serializePackedNodeList(Map<BlockPos, Node<NodeDataType>> allNodes) {
+        final int size = allNodes.size();
+        long[] positions = new long[size];
+        // noinspection unchecked
+        Node<NodeDataType>[] nodes = new Node[size];
+        int index = 0;
+        for (Entry<BlockPos, Node<NodeDataType>> entry : allNodes.entrySet()) {
+            positions[index] = entry.getKey().toLong();
+            nodes[index] = entry.getValue();
+            index++;
+        }
+        it.unimi.dsi.fastutil.Arrays.quickSort(0, size, (a, b) -> Long.compare(positions[a], positions[b]),
+                (a, b) -> {
+                    long position = positions[a];
+                    positions[a] = positions[b];
+                    positions[b] = position;
+                    Node<NodeDataType> node = nodes[a];
+                    nodes[a] = nodes[b];
+                    nodes[b] = node;
+                });
+
+        NBTTagList paletteList = new NBTTagList();
+        Object2IntMap<NodeDataType> palette = new Object2IntOpenHashMap<>(10, 0.5f);
+        palette.defaultReturnValue(-1);
+        PacketBuffer buf = new PacketBuffer(Unpooled.buffer(size * 4 + 5));
+        buf.writeVarInt(size);
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            Node<NodeDataType> node = nodes[i];
+            int paletteIndex = palette.getInt(node.data);
+            if (paletteIndex == -1) {
+                paletteIndex = paletteList.tagCount();
+                palette.put(node.data, paletteIndex);
+                NBTTagCompound propertiesTag = new NBTTagCompound();
+                writeNodeData(node.data, propertiesTag);
+                paletteList.appendTag(propertiesTag);
+            }
+
+            buf.writeVarLong(positions[i] - previous);
+            previous = positions[i];
+            buf.writeVarInt(paletteIndex);
+            int flags = node.openConnections & PACKED_CONNECTIONS;
+            if (node.isActive) flags |= PACKED_ACTIVE;
+            if (node.mark != Node.DEFAULT_MARK) flags |= PACKED_HAS_MARK;
+            buf.writeByte(flags);
+            if (node.mark != Node.DEFAULT_MARK) {
+                buf.writeVarInt(node.mark);
+            }
+        }
+
+        byte[] packed = new byte[buf.readableBytes()];
+        buf.readBytes(packed);
+        NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag("Palette", paletteList);
+        compound.setByteArray("Packed", packed);
+        return compound;
+    }
+
+    /**
+     * Deserializes nodes written in the format used before {@link #serializePackedNodeList(Map)}
+     */
     protected void deserializeAllNodeList(NBTTagCompound compound) {
         NBTTagList allNodesList = compound.getTagList("NodeIndexes", NBT.TAG_COMPOUND);
         NBTTagList wirePropertiesList = compound.getTagList("WireProperties", NBT.TAG_COMPOUND);
@@ -430,6 +549,9 @@ public abstract class PipeNet<NodeDataType> implements INBTSerializable<NBTTagCo
         }
     }
 
+    /**
+     * Serializes nodes in the format used before {@link #serializePackedNodeList(Map)}, with a tag per node
+     */
     protected NBTTagCompound serializeAllNodeList(Map<BlockPos, Node<NodeDataType>> allNodes) {
         NBTTagCompound compound = new NBTTagCompound();
         NBTTagList allNodesList = new NBTTagList();
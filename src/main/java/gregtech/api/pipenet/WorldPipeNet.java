@@ -110,7 +110,7 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
         T pipeNet = getNetFromPos(nodePos);
         if (pipeNet != null) {
             pipeNet.updateBlockedConnections(nodePos, side, isBlocked);
-            pipeNet.onPipeConnectionsUpdate();
+            pipeNet.onPipeConnectionsUpdate(nodePos);
         }
     }
 
@@ -163,12 +163,17 @@ public abstract class WorldPipeNet<NodeDataType, T extends PipeNet<NodeDataType>
     @NotNull
     @Override
     public NBTTagCompound writeToNBT(@NotNull NBTTagCompound compound) {
+        long start = System.nanoTime();
         NBTTagList allPipeNets = new NBTTagList();
         for (T pipeNet : pipeNets) {
             NBTTagCompound pNetTag = pipeNet.serializeNBT();
             allPipeNets.appendTag(pNetTag);
         }
         compound.setTag("PipeNets", allPipeNets);
+        if (GTLog.logger.isDebugEnabled()) {
+            GTLog.logger.debug("Serialized {} pipe nets of {} in {} ms", pipeNets.size(), mapName,
+                    (System.nanoTime() - start) / 1_000_000.0);
+        }
         return compound;
     }
 }
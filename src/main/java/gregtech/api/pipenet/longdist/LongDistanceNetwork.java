@@ -1,6 +1,7 @@
 package gregtech.api.pipenet.longdist;
 
 import gregtech.api.pipenet.WorldPipeNet;
+import gregtech.api.util.TaskScheduler;
 
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
@@ -15,6 +16,7 @@ import net.minecraftforge.common.util.Constants;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -52,12 +54,12 @@ public class LongDistanceNetwork {
 
     /**
      * Calculates one or more networks based on the given starting points.
-     * For this it will start a new thread to keep the main thread free.
+     * The starting points are walked over the next ticks to keep the main thread free.
      */
     protected void recalculateNetwork(Collection<BlockPos> starts) {
         invalidateNetwork(true);
-        // start a new thread where all given starting points are being walked
-        new NetworkBuilder(world, this, starts).start();
+        // schedule a builder where all given starting points are being walked
+        this.world.scheduleBuild(this, starts);
     }
 
     /**
@@ -321,9 +323,12 @@ public class LongDistanceNetwork {
         // All existing networks in this world
         private final ObjectOpenHashSet<LongDistanceNetwork> networkList = new ObjectOpenHashSet<>();
         private WeakReference<World> worldRef = new WeakReference<>(null);
+        // Networks waiting to be recalculated, walked one after another by a single task
+        private final Object2ObjectLinkedOpenHashMap<LongDistanceNetwork, NetworkBuilder> builders;
 
         public WorldData(String name) {
             super(name);
+            this.builders = new Object2ObjectLinkedOpenHashMap<>();
         }
 
         public static WorldData get(World world) {
@@ -392,6 +397,43 @@ public class LongDistanceNetwork {
             }
         }
 
+        /**
+         * Schedules a recalculation of the given network. If the network is already waiting to be recalculated, the
+         * starting points are merged into the waiting recalculation.
+         */
+        protected void scheduleBuild(LongDistanceNetwork network, Collection<BlockPos> starts) {
+            NetworkBuilder builder = this.builders.get(network);
+            if (builder != null) {
+                builder.addStarts(starts);
+                return;
+            }
+            World world = getWorld();
+            if (world == null) return;
+            if (this.builders.isEmpty()) {
+                TaskScheduler.scheduleTask(world, this::runBuilders);
+            }
+            this.builders.put(network, new NetworkBuilder(this, network, starts));
+        }
+
+        /**
+         * Walks the scheduled networks until the step budget of this tick is used up.
+         *
+         * @return if there are networks left to walk
+         */
+        private boolean runBuilders() {
+            int steps = NetworkBuilder.MAX_STEPS_PER_TICK;
+            while (!this.builders.isEmpty()) {
+                NetworkBuilder builder = this.builders.get(this.builders.firstKey());
+                steps -= builder.run(steps);
+                if (!builder.isDone()) {
+                    return true;
+                }
+                this.builders.removeFirst();
+                if (steps <= 0) break;
+            }
+            return !this.builders.isEmpty();
+        }
+
         @Override
         public void readFromNBT(@NotNull NBTTagCompound nbtTagCompound) {
             this.networks.clear();
@@ -9,8 +9,9 @@ import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.ChunkProviderServer;
 
-import it.unimi.dsi.fastutil.objects.ObjectArrayList;
-import it.unimi.dsi.fastutil.objects.ObjectList;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 
 import java.util.ArrayList;
@@ -19,21 +20,38 @@ import java.util.List;
 import java.util.Objects;
 
 /**
- * This bad boy is responsible for building the network
+ * This bad boy is responsible for building the network.
+ * <p>
+ * The network is walked on the server thread in steps, see {@link #run(int)}, so far away chunks can be loaded safely
+ * without blocking a tick for too long.
  */
-public class NetworkBuilder extends Thread {
+public class NetworkBuilder {
 
-    private final ObjectList<BlockPos> starts = new ObjectArrayList<>();
+    /**
+     * The maximum amount of positions which are checked for walking networks per tick
+     */
+    public static final int MAX_STEPS_PER_TICK = 4096;
+
+    /**
+     * The maximum amount of chunks which are loaded for walking networks per tick
+     */
+    public static final int MAX_CHUNK_LOADS_PER_TICK = 4;
+
+    // all requested starting points, in case the walk needs to be restarted
+    private final LongLinkedOpenHashSet allStarts = new LongLinkedOpenHashSet();
+    private final LongArrayFIFOQueue starts = new LongArrayFIFOQueue();
     private final LongDistanceNetwork.WorldData worldData;
     private final LongDistanceNetwork originalNetwork;
     private LongDistanceNetwork network;
     private final World world;
-    private final ObjectList<BlockPos> currentPoints = new ObjectArrayList<>();
-    private final ObjectOpenHashSet<BlockPos> walked = new ObjectOpenHashSet<>();
+    private final LongArrayFIFOQueue currentPoints = new LongArrayFIFOQueue();
+    private final LongOpenHashSet walked = new LongOpenHashSet();
     private final List<BlockPos> pipes = new ArrayList<>();
     private final List<ILDEndpoint> endpoints = new ArrayList<>();
     private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
     private final ObjectOpenHashSet<Chunk> loadedChunks = new ObjectOpenHashSet<>();
+    private boolean walking;
+    private int chunkLoads;
 
     public NetworkBuilder(LongDistanceNetwork.WorldData worldData, LongDistanceNetwork network,
                           Collection<BlockPos> starts) {
@@ -41,58 +59,124 @@ public class NetworkBuilder extends Thread {
         this.originalNetwork = Objects.requireNonNull(network);
         this.network = network;
         this.world = worldData.getWorld();
-        this.starts.addAll(starts);
+        addStarts(starts);
     }
 
-    @Override
-    public void run() {
-        if (this.starts.isEmpty()) return;
-        BlockPos start = this.starts.remove(0);
-        checkNetwork(start);
-        // iterate over each given starting point and try to build a network
-        while (!this.starts.isEmpty()) {
-            start = this.starts.remove(0);
-            LongDistanceNetwork ldn = this.worldData.getNetwork(start);
-            if (ldn == this.originalNetwork) {
-                // this starting point was caught during a previous iteration, so we don't need to create another
-                // network here
+    /**
+     * Adds more starting points to walk. Since the network changed again, all starting points are walked again from
+     * the beginning.
+     */
+    public void addStarts(Collection<BlockPos> starts) {
+        for (BlockPos start : starts) {
+            this.allStarts.add(start.toLong());
+        }
+        this.starts.clear();
+        for (long start : this.allStarts) {
+            this.starts.enqueue(start);
+        }
+        this.network = this.originalNetwork;
+        this.currentPoints.clear();
+        this.walked.clear();
+        this.pipes.clear();
+        this.endpoints.clear();
+        this.walking = false;
+    }
+
+    /**
+     * @return if all starting points were walked
+     */
+    public boolean isDone() {
+        return !this.walking && this.starts.isEmpty();
+    }
+
+    /**
+     * Walks the network for up to the given amount of positions.
+     *
+     * @param maxSteps the maximum amount of positions to check
+     * @return the amount of positions checked, which is the maximum amount if no more chunks could be loaded
+     */
+    public int run(int maxSteps) {
+        this.chunkLoads = 0;
+        int steps = 0;
+        while (steps < maxSteps) {
+            if (!this.walking) {
+                if (!nextStart()) {
+                    break;
+                }
+                steps++;
+                continue;
+            }
+            if (this.currentPoints.isEmpty()) {
+                // the whole net was checked
+                // now send the data to the given network
+                this.network.setData(this.pipes, this.endpoints);
+                this.walking = false;
                 continue;
             }
-            // create a new network, since the current was already calculated
-            this.network = this.network.getPipeType().createNetwork(this.worldData);
-            this.currentPoints.clear();
-            this.walked.clear();
-            this.pipes.clear();
-            this.endpoints.clear();
-            checkNetwork(start);
+            // get the first stored branch, it is only removed once all its neighbours were checked
+            BlockPos current = BlockPos.fromLong(this.currentPoints.firstLong());
+            if (!checkNeighbours(current)) {
+                return maxSteps;
+            }
+            this.currentPoints.dequeueLong();
+            steps++;
         }
-        IChunkProvider chunkProvider = this.world.getChunkProvider();
-        if (chunkProvider instanceof ChunkProviderServer chunkProviderServer) {
-            this.loadedChunks.forEach(chunkProviderServer::queueUnload);
+        if (isDone()) {
+            unloadChunks();
         }
+        return steps;
     }
 
-    private void checkNetwork(BlockPos start) {
-        // current points stores all current branches of the network
-        checkPos(this.world.getBlockState(start), start);
-        while (!this.currentPoints.isEmpty()) {
-            // get and remove the first stored branch
-            BlockPos current = this.currentPoints.remove(0);
-            for (EnumFacing facing : EnumFacing.VALUES) {
-                this.pos.setPos(current).move(facing);
-                if (this.walked.contains(this.pos)) {
-                    continue;
-                }
-                IBlockState blockState = getBlockState(this.pos);
-                if (blockState.getBlock().isAir(blockState, this.world, this.pos)) {
+    /**
+     * Starts walking the next starting point which is not part of a walked network yet
+     *
+     * @return if there was a starting point left
+     */
+    private boolean nextStart() {
+        boolean first = this.walked.isEmpty() && this.network == this.originalNetwork;
+        while (!this.starts.isEmpty()) {
+            long start = this.starts.dequeueLong();
+            BlockPos startPos = BlockPos.fromLong(start);
+            if (!first) {
+                LongDistanceNetwork ldn = this.worldData.getNetwork(startPos);
+                if (ldn == this.originalNetwork) {
+                    // this starting point was caught during a previous iteration, so we don't need to create another
+                    // network here
                     continue;
                 }
-                checkPos(blockState, this.pos);
+                // create a new network, since the current was already calculated
+                this.network = this.network.getPipeType().createNetwork(this.worldData);
+                this.currentPoints.clear();
+                this.walked.clear();
+                this.pipes.clear();
+                this.endpoints.clear();
+            }
+            this.walking = true;
+            checkPos(this.world.getBlockState(startPos), startPos);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return false if a chunk needed to be loaded, but no more chunks may be loaded this tick
+     */
+    private boolean checkNeighbours(BlockPos current) {
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            this.pos.setPos(current).move(facing);
+            if (this.walked.contains(this.pos.toLong())) {
+                continue;
+            }
+            IBlockState blockState = getBlockState(this.pos);
+            if (blockState == null) {
+                return false;
             }
+            if (blockState.getBlock().isAir(blockState, this.world, this.pos)) {
+                continue;
+            }
+            checkPos(blockState, this.pos);
         }
-        // the whole net was checked
-        // now send the data to the given network
-        this.network.setData(this.pipes, this.endpoints);
+        return true;
     }
 
     /**
@@ -103,18 +187,20 @@ public class NetworkBuilder extends Thread {
         if (network != null && network != this.network) {
             network.invalidateNetwork(true);
         }
-        BlockPos bp = pos.toImmutable();
-        this.walked.add(bp);
+        long key = pos.toLong();
+        this.walked.add(key);
         ILDNetworkPart part = ILDNetworkPart.tryGet(this.world, pos, blockState);
         if (part != null) {
-            this.pipes.add(bp);
+            this.pipes.add(pos.toImmutable());
             if (part instanceof ILDEndpoint endpoint) this.endpoints.add(endpoint);
-            else this.currentPoints.add(bp);
+            else this.currentPoints.enqueue(key);
         }
     }
 
     /**
      * Special method which can get block state which are far away. It temporarily loads the chunk for that.
+     *
+     * @return the block state, or null if the chunk is not loaded and no more chunks may be loaded this tick
      */
     private IBlockState getBlockState(BlockPos pos) {
         if (this.world.isOutsideBuildHeight(pos)) return Blocks.AIR.getDefaultState();
@@ -126,10 +212,22 @@ public class NetworkBuilder extends Thread {
             if (!chunkProvider.isChunkGeneratedAt(pos.getX() >> 4, pos.getZ() >> 4)) {
                 return Blocks.AIR.getDefaultState();
             }
+            if (this.chunkLoads >= MAX_CHUNK_LOADS_PER_TICK) {
+                return null;
+            }
+            this.chunkLoads++;
             chunk = chunkProvider.provideChunk(pos.getX() >> 4, pos.getZ() >> 4);
             // add loaded chunk to list to unload it later
             this.loadedChunks.add(chunk);
         }
         return chunk.getBlockState(pos);
     }
+
+    private void unloadChunks() {
+        IChunkProvider chunkProvider = this.world.getChunkProvider();
+        if (chunkProvider instanceof ChunkProviderServer chunkProviderServer) {
+            this.loadedChunks.forEach(chunkProviderServer::queueUnload);
+        }
+        this.loadedChunks.clear();
+    }
 }
@@ -2,6 +2,8 @@ package gregtech.api.pipenet.tickable;
 
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
+import gregtech.api.util.profiler.ProfilerCategory;
+import gregtech.api.util.profiler.TickProfiler;
 
 import net.minecraft.util.ITickable;
 import net.minecraft.util.math.ChunkPos;
@@ -19,6 +21,9 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
     private final Map<T, List<ChunkPos>> loadedChunksByPipeNet = new HashMap<>();
     private final Set<T> tickingPipeNets = new HashSet<>();
     private final Set<T> removeLater = new HashSet<>();
+    // nets which start ticking while the ticking nets are updated, e.g. when an update splits a net
+    private final Set<T> addLater = new HashSet<>();
+    private boolean updating;
 
     public TickableWorldPipeNet(String name) {
         super(name);
@@ -34,7 +39,20 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
 
     public void update() {
         if (getWorld().getTotalWorldTime() % getUpdateRate() == 0L) {
-            tickingPipeNets.forEach(ITickable::update);
+            this.updating = true;
+            try {
+                for (T pipeNet : tickingPipeNets) {
+                    long start = TickProfiler.start(getWorld());
+                    pipeNet.update();
+                    TickProfiler.record(ProfilerCategory.PIPE_NET, pipeNet.getClass(), start);
+                }
+            } finally {
+                this.updating = false;
+            }
+        }
+        if (addLater.size() > 0) {
+            tickingPipeNets.addAll(addLater);
+            addLater.clear();
         }
         if (removeLater.size() > 0) {
             removeLater.forEach(tickingPipeNets::remove);
@@ -49,7 +67,7 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
         for (T pipeNet : pipeNetsInThisChunk) {
             List<ChunkPos> loadedChunks = getOrCreateChunkListForPipeNet(pipeNet);
             if (loadedChunks.isEmpty()) {
-                this.tickingPipeNets.add(pipeNet);
+                addToTicking(pipeNet);
             }
             loadedChunks.add(chunkPos);
         }
@@ -89,7 +107,7 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
         List<ChunkPos> loadedChunks = getPipeNetLoadedChunks(pipeNet);
         if (!loadedChunks.isEmpty()) {
             this.loadedChunksByPipeNet.put(pipeNet, loadedChunks);
-            this.tickingPipeNets.add(pipeNet);
+            addToTicking(pipeNet);
         }
     }
 
@@ -107,8 +125,19 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
         }
     }
 
+    private void addToTicking(T pipeNet) {
+        this.removeLater.remove(pipeNet);
+        if (updating) {
+            // the ticking nets can not be modified while they are iterated
+            this.addLater.add(pipeNet);
+        } else {
+            this.tickingPipeNets.add(pipeNet);
+        }
+    }
+
     private void removeFromTicking(T pipeNet) {
         this.loadedChunksByPipeNet.remove(pipeNet);
+        this.addLater.remove(pipeNet);
         this.removeLater.add(pipeNet);
     }
 
@@ -122,7 +151,7 @@ public abstract class TickableWorldPipeNet<NodeDataType, T extends PipeNet<NodeD
         if (isChunkLoaded(chunkPos)) {
             List<ChunkPos> loadedChunks = getOrCreateChunkListForPipeNet(pipeNet);
             if (loadedChunks.isEmpty()) {
-                this.tickingPipeNets.add(pipeNet);
+                addToTicking(pipeNet);
             }
             loadedChunks.add(chunkPos);
         }
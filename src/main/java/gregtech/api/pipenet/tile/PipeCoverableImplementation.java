@@ -114,6 +114,7 @@ public class PipeCoverableImplementation implements CoverHolder {
                 Cover cover = getCoverAtSide(side);
                 if (cover != null) {
                     cover.onRedstoneInputSignalChange(redstoneValue);
+                    cover.wakeUp();
                 }
             }
         }
@@ -117,6 +117,12 @@ public abstract class TileEntityPipeBase<PipeType extends Enum<PipeType> & IPipe
         return coverableImplementation;
     }
 
+    @Override
+    public void onNeighborChanged(@NotNull EnumFacing facing) {
+        super.onNeighborChanged(facing);
+        coverableImplementation.wakeUpCover(facing);
+    }
+
     @Override
     public boolean canPlaceCoverOnSide(EnumFacing side) {
         return true;
@@ -271,7 +277,7 @@ public abstract class TileEntityPipeBase<PipeType extends Enum<PipeType> & IPipe
             WorldPipeNet<?, ?> worldPipeNet = getPipeBlock().getWorldPipeNet(getWorld());
             PipeNet<?> net = worldPipeNet.getNetFromPos(pos);
             if (net != null) {
-                net.onPipeConnectionsUpdate();
+                net.onPipeConnectionsUpdate(pos);
             }
         }
     }
@@ -548,7 +554,7 @@ public abstract class TileEntityPipeBase<PipeType extends Enum<PipeType> & IPipe
             WorldPipeNet<?, ?> worldPipeNet = getPipeBlock().getWorldPipeNet(getWorld());
             PipeNet<?> net = worldPipeNet.getNetFromPos(pos);
             if (net != null) {
-                net.onChunkUnload();
+                net.onChunkUnload(pos);
             }
         }
     }
@@ -19,6 +19,8 @@ import gregtech.api.recipes.map.MapItemStackIngredient;
 import gregtech.api.recipes.map.MapItemStackNBTIngredient;
 import gregtech.api.recipes.map.MapOreDictIngredient;
 import gregtech.api.recipes.map.MapOreDictNBTIngredient;
+import gregtech.api.recipes.map.RecipeNegativeCache;
+import gregtech.api.recipes.map.RecipeSearchContext;
 import gregtech.api.recipes.ui.RecipeMapUI;
 import gregtech.api.recipes.ui.RecipeMapUIFunction;
 import gregtech.api.unification.material.Material;
@@ -117,6 +119,8 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
     private final Object grsVirtualizedRecipeMap;
     private final Branch lookup = new Branch();
+    private final RecipeNegativeCache negativeCache = new RecipeNegativeCache();
+    private int revision;
     private boolean hasOreDictedInputs = false;
     private boolean hasNBTMatcherInputs = false;
     private static final WeakHashMap<AbstractMapIngredient, WeakReference<AbstractMapIngredient>> ingredientRoot = new WeakHashMap<>();
@@ -367,6 +371,8 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         }
         List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
         if (recurseIngredientTreeAdd(recipe, items, lookup, 0, 0)) {
+            negativeCache.clear();
+            revision++;
             recipeByCategory.compute(recipe.getRecipeCategory(), (k, v) -> {
                 if (v == null) v = new ArrayList<>();
                 v.add(recipe);
@@ -384,6 +390,8 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     public boolean removeRecipe(@NotNull Recipe recipe) {
         List<List<AbstractMapIngredient>> items = fromRecipe(recipe);
         if (recurseIngredientTreeRemove(recipe, items, lookup, 0) != null) {
+            negativeCache.clear();
+            revision++;
             if (GroovyScriptModule.isCurrentlyRunning()) {
                 this.getGroovyScriptRecipeMap().addBackup(recipe);
             }
@@ -409,6 +417,24 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         this.lookup.getNodes().clear();
         this.lookup.getSpecialNodes().clear();
         this.recipeByCategory.clear();
+        this.negativeCache.clear();
+        this.revision++;
+    }
+
+    /**
+     * @return a counter which changes whenever recipes are added to or removed from this map, for caches derived
+     *         from its recipes
+     */
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * @return the cache of input layouts known to have no recipe in this map
+     */
+    @NotNull
+    public RecipeNegativeCache getNegativeCache() {
+        return negativeCache;
     }
 
     /**
@@ -536,21 +562,27 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     @Nullable
     public Recipe findRecipe(long voltage, final List<ItemStack> inputs, final List<FluidStack> fluidInputs,
                              boolean exactVoltage) {
-        final List<ItemStack> items = inputs.stream().filter(s -> !s.isEmpty()).collect(Collectors.toList());
-        final List<FluidStack> fluids = fluidInputs.stream().filter(f -> f != null && f.amount != 0)
-                .collect(Collectors.toList());
+        int negativeCacheSize = ConfigHolder.machines.recipeNegativeCacheSize;
+        long fingerprint = 0;
+        if (negativeCacheSize > 0) {
+            fingerprint = RecipeNegativeCache.fingerprint(voltage, exactVoltage, inputs, fluidInputs);
+            if (negativeCache.contains(fingerprint)) return null;
+        }
 
-        return find(items, fluids, recipe -> {
-            if (exactVoltage && recipe.getEUt() != voltage) {
-                // if exact voltage is required, the recipe is not considered valid
-                return false;
-            }
-            if (recipe.getEUt() > voltage) {
-                // there is not enough voltage to consider the recipe valid
-                return false;
-            }
-            return recipe.matches(false, inputs, fluidInputs);
-        });
+        Recipe recipe;
+        RecipeSearchContext context = RecipeSearchContext.acquire();
+        try {
+            if (!prepareRecipeFind(context, inputs, fluidInputs)) return null;
+            recipe = context.findRecipe(lookup,
+                    context.matchVoltageAndInputs(voltage, exactVoltage, inputs, fluidInputs));
+        } finally {
+            context.release();
+        }
+
+        if (recipe == null && negativeCacheSize > 0) {
+            negativeCache.add(fingerprint, negativeCacheSize);
+        }
+        return recipe;
     }
 
     /**
@@ -592,10 +624,53 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
     @Nullable
     public Recipe find(@NotNull Collection<ItemStack> items, @NotNull Collection<FluidStack> fluids,
                        @NotNull Predicate<Recipe> canHandle) {
-        List<List<AbstractMapIngredient>> list = prepareRecipeFind(items, fluids);
-        // couldn't build any inputs to use for search, so no recipe could be found
-        if (list == null) return null;
-        return recurseIngredientTreeFindRecipe(list, lookup, canHandle);
+        RecipeSearchContext context = RecipeSearchContext.acquire();
+        try {
+            // couldn't build any inputs to use for search, so no recipe could be found
+            if (!prepareRecipeFind(context, items, fluids)) return null;
+            return context.findRecipe(lookup, canHandle);
+        } finally {
+            context.release();
+        }
+    }
+
+    /**
+     * Prepares Items and Fluids for use in recipe search, using the pooled search keys of a context.
+     * Empty items and fluids are ignored, and identical items are packed into one input.
+     *
+     * @param context the context to prepare
+     * @param items   the items to prepare
+     * @param fluids  the fluids to prepare
+     * @return if any inputs were prepared
+     */
+    protected boolean prepareRecipeFind(@NotNull RecipeSearchContext context, @NotNull Collection<ItemStack> items,
+                                        @NotNull Collection<FluidStack> fluids) {
+        if (items.isEmpty() && fluids.isEmpty()) {
+            return false;
+        }
+
+        // index lists directly, inventory views are not RandomAccess but are cheap to index
+        if (items instanceof List<ItemStack> itemList) {
+            for (int i = 0; i < itemList.size(); i++) {
+                buildFromItemStack(context, itemList.get(i));
+            }
+        } else {
+            for (ItemStack stack : items) {
+                buildFromItemStack(context, stack);
+            }
+        }
+
+        if (fluids instanceof List<FluidStack> fluidList) {
+            for (int i = 0; i < fluidList.size(); i++) {
+                buildFromFluidStack(context, fluidList.get(i));
+            }
+        } else {
+            for (FluidStack stack : fluids) {
+                buildFromFluidStack(context, stack);
+            }
+        }
+
+        return !context.getIngredients().isEmpty();
     }
 
     /**
@@ -663,103 +738,6 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         return list;
     }
 
-    /**
-     * Recursively finds a recipe, top level.
-     *
-     * @param ingredients the ingredients part
-     * @param branchRoot  the root branch to search from.
-     * @param canHandle   if the found recipe is valid
-     * @return a recipe
-     */
-    @Nullable
-    private Recipe recurseIngredientTreeFindRecipe(@NotNull List<List<AbstractMapIngredient>> ingredients,
-                                                   @NotNull Branch branchRoot, @NotNull Predicate<Recipe> canHandle) {
-        // Try each ingredient as a starting point, adding it to the skip-list.
-        // The skip-list is a packed long, where each 1 bit represents an index to skip
-        for (int i = 0; i < ingredients.size(); i++) {
-            Recipe r = recurseIngredientTreeFindRecipe(ingredients, branchRoot, canHandle, i, 0, (1L << i));
-            if (r != null) {
-                return r;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Recursively finds a recipe
-     *
-     * @param ingredients the ingredients part
-     * @param branchMap   the current branch of the tree
-     * @param canHandle   predicate to test found recipe.
-     * @param index       the index of the wrapper to get
-     * @param count       how deep we are in recursion, < ingredients.length
-     * @param skip        bitmap of ingredients to skip, i.e. which ingredients are already used in the recursion.
-     * @return a recipe
-     */
-    @Nullable
-    private Recipe recurseIngredientTreeFindRecipe(@NotNull List<List<AbstractMapIngredient>> ingredients,
-                                                   @NotNull Branch branchMap, @NotNull Predicate<Recipe> canHandle,
-                                                   int index, int count, long skip) {
-        // exhausted all the ingredients, and didn't find anything
-        if (count == ingredients.size()) return null;
-
-        // Iterate over current level of nodes.
-        for (AbstractMapIngredient obj : ingredients.get(index)) {
-            // determine the root nodes
-            Map<AbstractMapIngredient, Either<Recipe, Branch>> targetMap = determineRootNodes(obj, branchMap);
-
-            Either<Recipe, Branch> result = targetMap.get(obj);
-            if (result != null) {
-                // if there is a recipe (left mapping), return it immediately as found, if it can be handled
-                // Otherwise, recurse and go to the next branch.
-                Recipe r = result.map(potentialRecipe -> canHandle.test(potentialRecipe) ? potentialRecipe : null,
-                        potentialBranch -> diveIngredientTreeFindRecipe(ingredients, potentialBranch, canHandle, index,
-                                count, skip));
-                if (r != null) {
-                    return r;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Recursively finds a recipe
-     *
-     * @param ingredients  the ingredients part
-     * @param map          the current branch of the tree
-     * @param canHandle    predicate to test found recipe.
-     * @param currentIndex the index of the wrapper to get
-     * @param count        how deep we are in recursion, < ingredients.length
-     * @param skip         bitmap of ingredients to skip, i.e. which ingredients are already used in the recursion.
-     * @return a recipe
-     */
-    @Nullable
-    private Recipe diveIngredientTreeFindRecipe(@NotNull List<List<AbstractMapIngredient>> ingredients,
-                                                @NotNull Branch map,
-                                                @NotNull Predicate<Recipe> canHandle, int currentIndex, int count,
-                                                long skip) {
-        // We loop around ingredients.size() if we reach the end.
-        // only end when all ingredients are exhausted, or a recipe is found
-        int i = (currentIndex + 1) % ingredients.size();
-        while (i != currentIndex) {
-            // Have we already used this ingredient? If so, skip this one.
-            if (((skip & (1L << i)) == 0)) {
-                // Recursive call
-                // Increase the count, so the recursion can terminate if needed (ingredients is exhausted)
-                // Append the current index to the skip list
-                Recipe found = recurseIngredientTreeFindRecipe(ingredients, map, canHandle, i, count + 1,
-                        skip | (1L << i));
-                if (found != null) {
-                    return found;
-                }
-            }
-            // increment the index if the current index is skipped, or the recipe is not found
-            i = (i + 1) % ingredients.size();
-        }
-        return null;
-    }
-
     /**
      * Exhaustively gathers all recipes that can be crafted with the given ingredients, into a Set.
      *
@@ -1262,6 +1240,53 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         }
     }
 
+    /**
+     * Adds the search keys for an ItemStack to a search context.
+     * Mirrors {@link #buildFromItemStacks(List, ItemStack[])} using pooled keys.
+     *
+     * @param context the context to populate
+     * @param stack   the stack to convert
+     */
+    protected void buildFromItemStack(@NotNull RecipeSearchContext context, @NotNull ItemStack stack) {
+        if (!context.addUniqueItem(stack)) return;
+
+        int meta = stack.getMetadata();
+        NBTTagCompound nbt = stack.getTagCompound();
+
+        List<AbstractMapIngredient> ls = context.nextAlternatives();
+
+        // add the regular input
+        ls.add(context.itemKey(stack, meta, nbt));
+
+        if (hasOreDictedInputs) {
+            // add the ore dict inputs
+            for (int i : OreDictionary.getOreIDs(stack)) {
+                ls.add(context.oreKey(i));
+
+                if (hasNBTMatcherInputs) {
+                    // add the nbt inputs for the oredict inputs
+                    ls.add(context.oreNBTKey(i, nbt));
+                }
+            }
+        }
+        if (hasNBTMatcherInputs) {
+            // add the nbt input for the regular input
+            ls.add(context.itemNBTKey(stack, meta, nbt));
+        }
+        context.trimAlternatives();
+    }
+
+    /**
+     * Adds the search key for a FluidStack to a search context.
+     *
+     * @param context the context to populate
+     * @param stack   the stack to convert
+     */
+    protected void buildFromFluidStack(@NotNull RecipeSearchContext context, @Nullable FluidStack stack) {
+        if (stack == null || stack.amount == 0) return;
+        context.nextAlternatives().add(context.fluidKey(stack));
+    }
+
     /**
      * @deprecated {@link RecipeMapUI#setSpecialTexture(TextureArea, int, int, int, int)}
      */
@@ -4,6 +4,7 @@ import gregtech.api.recipes.Recipe;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Map;
 import java.util.stream.Stream;
@@ -43,6 +44,19 @@ public class Branch {
         return (nodes == null || nodes.isEmpty()) && (specialNodes == null || specialNodes.isEmpty());
     }
 
+    /**
+     * Looks up the node for an ingredient without creating any missing node maps.
+     *
+     * @param ingredient the ingredient to look up
+     * @return the node for the ingredient, or null if there is none
+     */
+    @Nullable
+    public Either<Recipe, Branch> getNode(@NotNull AbstractMapIngredient ingredient) {
+        Map<AbstractMapIngredient, Either<Recipe, Branch>> map = ingredient.isSpecialIngredient() ? specialNodes :
+                nodes;
+        return map == null ? null : map.get(ingredient);
+    }
+
     @NotNull
     public Map<AbstractMapIngredient, Either<Recipe, Branch>> getNodes() {
         if (nodes == null) {
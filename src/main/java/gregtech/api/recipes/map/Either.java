@@ -1,5 +1,7 @@
 package gregtech.api.recipes.map;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -41,6 +43,16 @@ public abstract class Either<L, R> {
             return java.util.Optional.of(value);
         }
 
+        @Override
+        public L leftOrNull() {
+            return value;
+        }
+
+        @Override
+        public R rightOrNull() {
+            return null;
+        }
+
         @Override
         public java.util.Optional<R> right() {
             return java.util.Optional.empty();
@@ -104,6 +116,16 @@ public abstract class Either<L, R> {
             return java.util.Optional.empty();
         }
 
+        @Override
+        public L leftOrNull() {
+            return null;
+        }
+
+        @Override
+        public R rightOrNull() {
+            return value;
+        }
+
         @Override
         public java.util.Optional<R> right() {
             return java.util.Optional.of(value);
@@ -147,6 +169,22 @@ public abstract class Either<L, R> {
 
     public abstract java.util.Optional<R> right();
 
+    /**
+     * Non-allocating alternative to {@link #left()} for hot paths.
+     *
+     * @return the left value, or null if this is a right
+     */
+    @Nullable
+    public abstract L leftOrNull();
+
+    /**
+     * Non-allocating alternative to {@link #right()} for hot paths.
+     *
+     * @return the right value, or null if this is a left
+     */
+    @Nullable
+    public abstract R rightOrNull();
+
     public <T> Either<T, R> mapLeft(final Function<? super L, ? extends T> l) {
         return map(t -> left(l.apply(t)), Either::right);
     }
@@ -10,8 +10,8 @@ import java.util.Objects;
 
 public class MapFluidIngredient extends AbstractMapIngredient {
 
-    public final Fluid fluid;
-    public final NBTTagCompound tag;
+    public Fluid fluid;
+    public NBTTagCompound tag;
 
     public MapFluidIngredient(GTRecipeInput fluidInput) {
         FluidStack fluidStack = fluidInput.getInputFluidStack();
@@ -24,6 +24,15 @@ public class MapFluidIngredient extends AbstractMapIngredient {
         this.tag = fluidStack.tag;
     }
 
+    /**
+     * Re-targets this ingredient at another fluid. Only used for pooled search keys, never for tree nodes.
+     */
+    void reset(FluidStack fluidStack) {
+        this.fluid = fluidStack.getFluid();
+        this.tag = fluidStack.tag;
+        invalidate();
+    }
+
     @Override
     protected int hash() {
         // the Fluid registered to the fluidName on game load might not be the same Fluid after loading the world, but
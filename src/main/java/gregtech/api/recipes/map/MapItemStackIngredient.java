@@ -30,6 +30,16 @@ public class MapItemStackIngredient extends AbstractMapIngredient {
         this.gtRecipeInput = gtRecipeInput;
     }
 
+    /**
+     * Re-targets this ingredient at another stack. Only used for pooled search keys, never for tree nodes.
+     */
+    void reset(ItemStack stack, int meta, NBTTagCompound tag) {
+        this.stack = stack;
+        this.meta = meta;
+        this.tag = tag;
+        invalidate();
+    }
+
     @NotNull
     public static List<AbstractMapIngredient> from(@NotNull GTRecipeInput r) {
         ObjectArrayList<AbstractMapIngredient> list = new ObjectArrayList<>();
@@ -8,6 +8,14 @@ public class MapOreDictIngredient extends AbstractMapIngredient {
         this.ore = ore;
     }
 
+    /**
+     * Re-targets this ingredient at another ore id. Only used for pooled search keys, never for tree nodes.
+     */
+    void reset(int ore) {
+        this.ore = ore;
+        invalidate();
+    }
+
     @Override
     protected int hash() {
         return ore;
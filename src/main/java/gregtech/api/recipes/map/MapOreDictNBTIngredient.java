@@ -27,6 +27,14 @@ public class MapOreDictNBTIngredient extends MapOreDictIngredient {
         this.nbtTagCompound = nbtTagCompound;
     }
 
+    /**
+     * Re-targets this ingredient at another ore id and tag. Only used for pooled search keys, never for tree nodes.
+     */
+    void reset(int ore, @Nullable NBTTagCompound nbtTagCompound) {
+        this.nbtTagCompound = nbtTagCompound;
+        reset(ore);
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
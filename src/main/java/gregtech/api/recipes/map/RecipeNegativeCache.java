@@ -0,0 +1,108 @@
+package gregtech.api.recipes.map;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * A bounded LRU of input layouts known to have no matching recipe in a RecipeMap.
+ * <p>
+ * Entries are 64-bit fingerprints of the voltage and the multiset of input items and fluids, including amounts and
+ * NBT, so that the same inventory contents in any slot order map to the same entry. The owning map must
+ * {@link #clear()} this whenever its recipes change.
+ */
+public final class RecipeNegativeCache {
+
+    private final LongLinkedOpenHashSet entries = new LongLinkedOpenHashSet();
+
+    private long hits;
+    private long misses;
+
+    /**
+     * @param fingerprint the fingerprint to check
+     * @return if the fingerprint is known to have no recipe
+     */
+    public synchronized boolean contains(long fingerprint) {
+        if (entries.contains(fingerprint)) {
+            entries.addAndMoveToLast(fingerprint);
+            hits++;
+            return true;
+        }
+        misses++;
+        return false;
+    }
+
+    /**
+     * Records a fingerprint as having no recipe, evicting the least recently used entries past the capacity.
+     *
+     * @param fingerprint the fingerprint to record
+     * @param capacity    the maximum amount of entries to keep
+     */
+    public synchronized void add(long fingerprint, int capacity) {
+        if (capacity <= 0) return;
+        entries.addAndMoveToLast(fingerprint);
+        while (entries.size() > capacity) {
+            entries.removeFirstLong();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Computes an order-independent fingerprint of a recipe search.
+     *
+     * @param voltage      the voltage of the search
+     * @param exactVoltage if the search requires an exact voltage
+     * @param items        the item inputs
+     * @param fluids       the fluid inputs
+     * @return the fingerprint
+     */
+    public static long fingerprint(long voltage, boolean exactVoltage, @NotNull List<ItemStack> items,
+                                   @NotNull List<FluidStack> fluids) {
+        // summing mixed element hashes keeps the result independent of slot order
+        long itemHash = 0;
+        for (int i = 0; i < items.size(); i++) {
+            ItemStack stack = items.get(i);
+            if (stack.isEmpty()) continue;
+            long hash = stack.getItem().hashCode();
+            hash = hash * 31 + stack.getMetadata();
+            hash = hash * 31 + (stack.getTagCompound() == null ? 0 : stack.getTagCompound().hashCode());
+            hash = (hash << 32) ^ stack.getCount();
+            itemHash += HashCommon.mix(hash);
+        }
+
+        long fluidHash = 0;
+        for (int i = 0; i < fluids.size(); i++) {
+            FluidStack stack = fluids.get(i);
+            if (stack == null || stack.amount == 0) continue;
+            long hash = stack.getFluid().getName().hashCode();
+            hash = hash * 31 + (stack.tag == null ? 0 : stack.tag.hashCode());
+            hash = (hash << 32) ^ stack.amount;
+            fluidHash += HashCommon.mix(hash);
+        }
+
+        long result = HashCommon.mix(voltage) ^ (exactVoltage ? 0x9E3779B97F4A7C15L : 0);
+        result = result * 31 + itemHash;
+        result = result * 31 + HashCommon.mix(fluidHash);
+        return HashCommon.mix(result);
+    }
+}
@@ -0,0 +1,345 @@
+package gregtech.api.recipes.map;
+
+import gregtech.api.recipes.Recipe;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Reusable, per-thread state for a single recipe lookup.
+ * <p>
+ * Holds pooled search keys for the ingredient tree and an explicit frame stack for walking it, so that repeated
+ * lookups against a {@link Branch} tree do not allocate.
+ * <p>
+ * Obtain with {@link #acquire()} and always hand back with {@link #release()}.
+ */
+public final class RecipeSearchContext {
+
+    private static final ThreadLocal<RecipeSearchContext> CONTEXT = ThreadLocal.withInitial(RecipeSearchContext::new);
+
+    private static final int INITIAL_DEPTH = 8;
+
+    // the prepared search input, one list of alternatives per unique input
+    private final List<List<AbstractMapIngredient>> ingredients = new ObjectArrayList<>();
+    private final List<ObjectArrayList<AbstractMapIngredient>> alternativesPool = new ObjectArrayList<>();
+    private final List<ItemStack> uniqueItems = new ObjectArrayList<>();
+
+    // pooled search keys
+    private final List<MapItemStackIngredient> itemKeys = new ObjectArrayList<>();
+    private final List<MapItemStackNBTIngredient> itemNBTKeys = new ObjectArrayList<>();
+    private final List<MapOreDictIngredient> oreKeys = new ObjectArrayList<>();
+    private final List<MapOreDictNBTIngredient> oreNBTKeys = new ObjectArrayList<>();
+    private final List<MapFluidIngredient> fluidKeys = new ObjectArrayList<>();
+    private int itemKeysUsed;
+    private int itemNBTKeysUsed;
+    private int oreKeysUsed;
+    private int oreNBTKeysUsed;
+    private int fluidKeysUsed;
+
+    // frame stack for the tree walk, indexed by depth
+    private Branch[] frameBranch = new Branch[INITIAL_DEPTH];
+    private Branch[] frameChild = new Branch[INITIAL_DEPTH];
+    private int[] frameIndex = new int[INITIAL_DEPTH];
+    private int[] frameAlternative = new int[INITIAL_DEPTH];
+    private int[] frameRing = new int[INITIAL_DEPTH];
+    private long[] frameSkip = new long[INITIAL_DEPTH];
+
+    // state for the reusable voltage and input predicate
+    private final Predicate<Recipe> voltageAndInputMatcher = this::matchesVoltageAndInputs;
+    private long voltage;
+    private boolean exactVoltage;
+    private List<ItemStack> itemInputs;
+    private List<FluidStack> fluidInputs;
+
+    private boolean inUse;
+
+    private RecipeSearchContext() {}
+
+    /**
+     * @return the context for the current thread, or a fresh one if the thread's context is already in use
+     */
+    @NotNull
+    public static RecipeSearchContext acquire() {
+        RecipeSearchContext context = CONTEXT.get();
+        if (context.inUse) {
+            // re-entrant search, e.g. from inside a recipe predicate
+            context = new RecipeSearchContext();
+        }
+        context.inUse = true;
+        return context;
+    }
+
+    /**
+     * Resets this context so it can be reused by the next search on this thread.
+     */
+    public void release() {
+        for (int i = 0; i < ingredients.size(); i++) {
+            alternativesPool.get(i).clear();
+        }
+        this.ingredients.clear();
+        this.uniqueItems.clear();
+        this.itemKeysUsed = 0;
+        this.itemNBTKeysUsed = 0;
+        this.oreKeysUsed = 0;
+        this.oreNBTKeysUsed = 0;
+        this.fluidKeysUsed = 0;
+        Arrays.fill(frameBranch, null);
+        Arrays.fill(frameChild, null);
+        this.itemInputs = null;
+        this.fluidInputs = null;
+        this.inUse = false;
+    }
+
+    /**
+     * Configures the reusable predicate used by regular recipe lookups.
+     *
+     * @param voltage      the voltage of the machine
+     * @param exactVoltage if the recipe must match the voltage exactly
+     * @param inputs       the item inputs to match the recipe against
+     * @param fluidInputs  the fluid inputs to match the recipe against
+     * @return a predicate valid until {@link #release()}
+     */
+    @NotNull
+    public Predicate<Recipe> matchVoltageAndInputs(long voltage, boolean exactVoltage, @NotNull List<ItemStack> inputs,
+                                                   @NotNull List<FluidStack> fluidInputs) {
+        this.voltage = voltage;
+        this.exactVoltage = exactVoltage;
+        this.itemInputs = inputs;
+        this.fluidInputs = fluidInputs;
+        return voltageAndInputMatcher;
+    }
+
+    private boolean matchesVoltageAndInputs(@NotNull Recipe recipe) {
+        if (exactVoltage && recipe.getEUt() != voltage) {
+            // if exact voltage is required, the recipe is not considered valid
+            return false;
+        }
+        if (recipe.getEUt() > voltage) {
+            // there is not enough voltage to consider the recipe valid
+            return false;
+        }
+        return recipe.matches(false, itemInputs, fluidInputs);
+    }
+
+    /**
+     * @return the prepared ingredients, valid until {@link #release()}
+     */
+    @NotNull
+    public List<List<AbstractMapIngredient>> getIngredients() {
+        return ingredients;
+    }
+
+    /**
+     * Registers an item for the search, ignoring it if an identical item was already added.
+     * This uses a strict comparison, like {@code RecipeMap#uniqueItems}.
+     *
+     * @param stack the stack to add
+     * @return if the stack was not yet present and should be converted to search keys
+     */
+    public boolean addUniqueItem(@NotNull ItemStack stack) {
+        if (stack.isEmpty()) return false;
+        for (int i = 0; i < uniqueItems.size(); i++) {
+            ItemStack unique = uniqueItems.get(i);
+            if (stack.isItemEqual(unique) && ItemStack.areItemStackTagsEqual(stack, unique)) {
+                return false;
+            }
+        }
+        uniqueItems.add(stack);
+        return true;
+    }
+
+    /**
+     * Starts a new list of alternatives for one input.
+     *
+     * @return the list to populate with search keys
+     */
+    @NotNull
+    public List<AbstractMapIngredient> nextAlternatives() {
+        ObjectArrayList<AbstractMapIngredient> alternatives;
+        if (ingredients.size() < alternativesPool.size()) {
+            alternatives = alternativesPool.get(ingredients.size());
+        } else {
+            alternatives = new ObjectArrayList<>(4);
+            alternativesPool.add(alternatives);
+        }
+        ingredients.add(alternatives);
+        return alternatives;
+    }
+
+    /**
+     * Removes the most recently started list of alternatives if nothing was added to it.
+     */
+    public void trimAlternatives() {
+        int last = ingredients.size() - 1;
+        if (last >= 0 && ingredients.get(last).isEmpty()) {
+            ingredients.remove(last);
+        }
+    }
+
+    @NotNull
+    public AbstractMapIngredient itemKey(@NotNull ItemStack stack, int meta, @Nullable NBTTagCompound tag) {
+        MapItemStackIngredient key;
+        if (itemKeysUsed < itemKeys.size()) {
+            key = itemKeys.get(itemKeysUsed);
+            key.reset(stack, meta, tag);
+        } else {
+            key = new MapItemStackIngredient(stack, meta, tag);
+            itemKeys.add(key);
+        }
+        itemKeysUsed++;
+        return key;
+    }
+
+    @NotNull
+    public AbstractMapIngredient itemNBTKey(@NotNull ItemStack stack, int meta, @Nullable NBTTagCompound tag) {
+        MapItemStackNBTIngredient key;
+        if (itemNBTKeysUsed < itemNBTKeys.size()) {
+            key = itemNBTKeys.get(itemNBTKeysUsed);
+            key.reset(stack, meta, tag);
+        } else {
+            key = new MapItemStackNBTIngredient(stack, meta, tag);
+            itemNBTKeys.add(key);
+        }
+        itemNBTKeysUsed++;
+        return key;
+    }
+
+    @NotNull
+    public AbstractMapIngredient oreKey(int ore) {
+        MapOreDictIngredient key;
+        if (oreKeysUsed < oreKeys.size()) {
+            key = oreKeys.get(oreKeysUsed);
+            key.reset(ore);
+        } else {
+            key = new MapOreDictIngredient(ore);
+            oreKeys.add(key);
+        }
+        oreKeysUsed++;
+        return key;
+    }
+
+    @NotNull
+    public AbstractMapIngredient oreNBTKey(int ore, @Nullable NBTTagCompound tag) {
+        MapOreDictNBTIngredient key;
+        if (oreNBTKeysUsed < oreNBTKeys.size()) {
+            key = oreNBTKeys.get(oreNBTKeysUsed);
+            key.reset(ore, tag);
+        } else {
+            key = new MapOreDictNBTIngredient(ore, tag);
+            oreNBTKeys.add(key);
+        }
+        oreNBTKeysUsed++;
+        return key;
+    }
+
+    @NotNull
+    public AbstractMapIngredient fluidKey(@NotNull FluidStack stack) {
+        MapFluidIngredient key;
+        if (fluidKeysUsed < fluidKeys.size()) {
+            key = fluidKeys.get(fluidKeysUsed);
+            key.reset(stack);
+        } else {
+            key = new MapFluidIngredient(stack);
+            fluidKeys.add(key);
+        }
+        fluidKeysUsed++;
+        return key;
+    }
+
+    /**
+     * Walks the ingredient tree with the prepared ingredients.
+     * <p>
+     * Every ingredient is tried as a starting point. From each branch reached, the remaining unused ingredients are
+     * tried in ring order starting after the current one. The order of traversal is identical to the recursive
+     * search this replaces, so the same recipe is found for the same inputs.
+     *
+     * @param root      the root of the tree
+     * @param canHandle if a found recipe is valid
+     * @return the first valid recipe, or null if none was found
+     */
+    @Nullable
+    public Recipe findRecipe(@NotNull Branch root, @NotNull Predicate<Recipe> canHandle) {
+        final int size = ingredients.size();
+        if (size == 0) return null;
+        ensureDepth(size);
+
+        for (int start = 0; start < size; start++) {
+            int depth = 0;
+            pushFrame(0, root, start, 1L << start);
+
+            while (depth >= 0) {
+                Branch child = frameChild[depth];
+                if (child != null) {
+                    // continue diving into the remaining ingredients for the current branch
+                    int current = frameIndex[depth];
+                    int i = frameRing[depth];
+                    boolean pushed = false;
+                    while (i != current) {
+                        int next = (i + 1) % size;
+                        if ((frameSkip[depth] & (1L << i)) == 0) {
+                            frameRing[depth] = next;
+                            pushFrame(depth + 1, child, i, frameSkip[depth] | (1L << i));
+                            depth++;
+                            pushed = true;
+                            break;
+                        }
+                        i = next;
+                    }
+                    if (pushed) continue;
+                    frameChild[depth] = null;
+                }
+
+                List<AbstractMapIngredient> alternatives = ingredients.get(frameIndex[depth]);
+                if (frameAlternative[depth] >= alternatives.size()) {
+                    // exhausted this level
+                    frameBranch[depth] = null;
+                    depth--;
+                    continue;
+                }
+
+                AbstractMapIngredient key = alternatives.get(frameAlternative[depth]++);
+                Either<Recipe, Branch> result = frameBranch[depth].getNode(key);
+                if (result == null) continue;
+
+                Recipe recipe = result.leftOrNull();
+                if (recipe != null) {
+                    if (canHandle.test(recipe)) {
+                        return recipe;
+                    }
+                } else {
+                    frameChild[depth] = result.rightOrNull();
+                    frameRing[depth] = (frameIndex[depth] + 1) % size;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void pushFrame(int depth, @NotNull Branch branch, int index, long skip) {
+        frameBranch[depth] = branch;
+        frameChild[depth] = null;
+        frameIndex[depth] = index;
+        frameAlternative[depth] = 0;
+        frameRing[depth] = 0;
+        frameSkip[depth] = skip;
+    }
+
+    private void ensureDepth(int depth) {
+        if (depth <= frameBranch.length) return;
+        this.frameBranch = Arrays.copyOf(frameBranch, depth);
+        this.frameChild = Arrays.copyOf(frameChild, depth);
+        this.frameIndex = Arrays.copyOf(frameIndex, depth);
+        this.frameAlternative = Arrays.copyOf(frameAlternative, depth);
+        this.frameRing = Arrays.copyOf(frameRing, depth);
+        this.frameSkip = Arrays.copyOf(frameSkip, depth);
+    }
+}
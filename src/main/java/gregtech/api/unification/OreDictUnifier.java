@@ -21,6 +21,8 @@ import net.minecraftforge.oredict.OreDictionary.OreRegisterEvent;
 
 import com.google.common.base.Joiner;
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import org.jetbrains.annotations.NotNull;
@@ -44,6 +46,14 @@ public class OreDictUnifier {
     private static final Map<Item, ItemVariantMap.Mutable<Set<String>>> stackOreDictName = new Object2ObjectOpenHashMap<>();
     private static final Map<String, List<ItemStack>> oreDictNameStacks = new Object2ObjectOpenHashMap<>();
 
+    // immutable copy of the lookup tables above, published once loading is complete
+    @Nullable
+    private static volatile Snapshot snapshot;
+    // whether the tables changed since the snapshot was taken, it is then taken again on the next query
+    private static volatile boolean snapshotDirty;
+    // incremented whenever the tables change
+    private static volatile int revision;
+
     @Nullable
     private static Comparator<ItemAndMetadata> stackComparator;
 
@@ -66,9 +76,13 @@ public class OreDictUnifier {
         return (first, second) -> comparator.compare(new ItemAndMetadata(first), new ItemAndMetadata(second));
     }
 
-    public static void registerOre(ItemStack itemStack, ItemMaterialInfo materialInfo) {
+    public static synchronized void registerOre(ItemStack itemStack, ItemMaterialInfo materialInfo) {
         if (itemStack.isEmpty()) return;
         materialUnificationInfo.put(new ItemAndMetadata(itemStack), materialInfo);
+        revision++;
+        if (snapshot != null) {
+            snapshotDirty = true;
+        }
     }
 
     public static void registerOre(ItemStack itemStack, OrePrefix orePrefix, @Nullable Material material) {
@@ -95,8 +109,35 @@ public class OreDictUnifier {
         MinecraftForge.EVENT_BUS.register(OreDictUnifier.class);
     }
 
+    /**
+     * Publishes an immutable snapshot of the lookup tables, which is used by all queries from then on. Registrations
+     * after this mark the snapshot as outdated, and the next query takes a new one.
+     */
+    public static synchronized void freeze() {
+        snapshot = new Snapshot();
+        snapshotDirty = false;
+    }
+
+    /**
+     * @return a number which changes whenever an ore registration changes the lookup tables, for example when scripts
+     *         add ore dictionary entries. Caches of lookup results can compare it to know when they are outdated.
+     */
+    public static int getRevision() {
+        return revision;
+    }
+
+    @Nullable
+    private static Snapshot getSnapshot() {
+        if (snapshotDirty) {
+            synchronized (OreDictUnifier.class) {
+                if (snapshotDirty) freeze();
+            }
+        }
+        return snapshot;
+    }
+
     @SubscribeEvent
-    public static void onItemRegistration(OreRegisterEvent event) {
+    public static synchronized void onItemRegistration(OreRegisterEvent event) {
         String oreName = event.getName();
         // cache this registration by name
         ItemVariantMap.Mutable<Set<String>> entry = stackOreDictName.computeIfAbsent(event.getOre().getItem(),
@@ -167,11 +208,25 @@ public class OreDictUnifier {
             }
             orePrefix.processOreRegistration(material);
         }
+        revision++;
+        if (snapshot != null) {
+            snapshotDirty = true;
+        }
     }
 
     @NotNull
     public static Set<String> getOreDictionaryNames(@NotNull ItemStack itemStack) {
         if (itemStack.isEmpty()) return Collections.emptySet();
+        Snapshot snapshot = getSnapshot();
+        if (snapshot != null) {
+            Set<String> names = snapshot.getOrWildcard(snapshot.oreDictNames, itemStack);
+            return names == null ? Collections.emptySet() : names;
+        }
+        return getLiveOreDictionaryNames(itemStack);
+    }
+
+    @NotNull
+    private static Set<String> getLiveOreDictionaryNames(@NotNull ItemStack itemStack) {
         ItemVariantMap<Set<String>> nameEntry = stackOreDictName.get(itemStack.getItem());
         if (nameEntry == null) return Collections.emptySet();
         short itemDamage = (short) itemStack.getItemDamage();
@@ -204,6 +259,11 @@ public class OreDictUnifier {
 
     public static boolean hasOreDictionary(@NotNull ItemStack itemStack, @NotNull String oreDictName) {
         if (itemStack.isEmpty()) return false;
+        Snapshot snapshot = getSnapshot();
+        if (snapshot != null) {
+            Set<String> names = snapshot.getOrWildcard(snapshot.oreDictNames, itemStack);
+            return names != null && names.contains(oreDictName);
+        }
         ItemVariantMap<Set<String>> nameEntry = stackOreDictName.get(itemStack.getItem());
         if (nameEntry == null) return false;
 
@@ -226,8 +286,7 @@ public class OreDictUnifier {
     @Nullable
     public static MaterialStack getMaterial(ItemStack itemStack) {
         if (itemStack.isEmpty()) return null;
-        ItemAndMetadata key = new ItemAndMetadata(itemStack);
-        UnificationEntry entry = getOrWildcard(stackUnificationInfo, key);
+        UnificationEntry entry = getUnificationEntry(itemStack);
         if (entry != null) {
             Material entryMaterial = entry.material;
             if (entryMaterial == null) {
@@ -237,37 +296,43 @@ public class OreDictUnifier {
                 return new MaterialStack(entryMaterial, entry.orePrefix.getMaterialAmount(entryMaterial));
             }
         }
-        ItemMaterialInfo info = getOrWildcard(materialUnificationInfo, key);
+        ItemMaterialInfo info = getMaterialInfo(itemStack);
         return info == null ? null : info.getMaterial().copy();
     }
 
     @Nullable
     public static ItemMaterialInfo getMaterialInfo(ItemStack itemStack) {
         if (itemStack.isEmpty()) return null;
+        Snapshot snapshot = getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getOrWildcard(snapshot.materialInfos, itemStack);
+        }
         return getOrWildcard(materialUnificationInfo, new ItemAndMetadata(itemStack));
     }
 
     @Nullable
     public static OrePrefix getPrefix(ItemStack itemStack) {
-        if (itemStack.isEmpty()) return null;
-        UnificationEntry entry = getOrWildcard(stackUnificationInfo, new ItemAndMetadata(itemStack));
+        UnificationEntry entry = getUnificationEntry(itemStack);
         return entry != null ? entry.orePrefix : null;
     }
 
     @Nullable
     public static UnificationEntry getUnificationEntry(ItemStack itemStack) {
         if (itemStack.isEmpty()) return null;
+        Snapshot snapshot = getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getOrWildcard(snapshot.unificationEntries, itemStack);
+        }
         return getOrWildcard(stackUnificationInfo, new ItemAndMetadata(itemStack));
     }
 
     public static ItemStack getUnificated(ItemStack itemStack) {
         if (itemStack.isEmpty()) return ItemStack.EMPTY;
         UnificationEntry unificationEntry = getUnificationEntry(itemStack);
-        if (unificationEntry == null || !stackUnificationItems.containsKey(unificationEntry) ||
-                !unificationEntry.orePrefix.isUnificationEnabled)
+        if (unificationEntry == null || !unificationEntry.orePrefix.isUnificationEnabled)
             return itemStack;
-        ArrayList<ItemAndMetadata> keys = stackUnificationItems.get(unificationEntry);
-        return keys.size() > 0 ? keys.get(0).toItemStack(itemStack.getCount()) : itemStack;
+        ItemAndMetadata key = getFirstUnifiedItem(unificationEntry);
+        return key != null ? key.toItemStack(itemStack.getCount()) : itemStack;
     }
 
     public static ItemStack get(UnificationEntry unificationEntry) {
@@ -279,11 +344,18 @@ public class OreDictUnifier {
     }
 
     public static ItemStack get(OrePrefix orePrefix, Material material, int stackSize) {
-        UnificationEntry unificationEntry = new UnificationEntry(orePrefix, material);
-        if (!stackUnificationItems.containsKey(unificationEntry))
-            return ItemStack.EMPTY;
+        ItemAndMetadata key = getFirstUnifiedItem(new UnificationEntry(orePrefix, material));
+        return key != null ? key.toItemStack(stackSize) : ItemStack.EMPTY;
+    }
+
+    @Nullable
+    private static ItemAndMetadata getFirstUnifiedItem(UnificationEntry unificationEntry) {
+        Snapshot snapshot = getSnapshot();
+        if (snapshot != null) {
+            return snapshot.firstUnifiedItems.get(unificationEntry);
+        }
         ArrayList<ItemAndMetadata> keys = stackUnificationItems.get(unificationEntry);
-        return keys.size() > 0 ? keys.get(0).toItemStack(stackSize) : ItemStack.EMPTY;
+        return keys == null || keys.isEmpty() ? null : keys.get(0);
     }
 
     public static ItemStack get(String oreDictName) {
@@ -359,7 +431,7 @@ public class OreDictUnifier {
         return getDust(materialStack);
     }
 
-    synchronized private static <T> void addAndSort(List<T> list, T itemToAdd, Comparator<T> comparator) {
+    private static <T> void addAndSort(List<T> list, T itemToAdd, Comparator<T> comparator) {
         list.add(itemToAdd);
 
         if (list.size() > 1)
@@ -381,4 +453,53 @@ public class OreDictUnifier {
         if (key.isWildcard()) return null;
         return map.get(key.toWildcard());
     }
+
+    private static long getKey(@NotNull Item item, int meta) {
+        return ((long) Item.getIdFromItem(item) << 32) | (meta & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Immutable lookup tables keyed by item registry ID and metadata, see {@link #getKey(Item, int)}.
+     */
+    private static final class Snapshot {
+
+        private final Long2ObjectMap<UnificationEntry> unificationEntries = new Long2ObjectOpenHashMap<>();
+        private final Long2ObjectMap<ItemMaterialInfo> materialInfos = new Long2ObjectOpenHashMap<>();
+        // names of the exact metadata already include the names of the wildcard metadata
+        private final Long2ObjectMap<Set<String>> oreDictNames = new Long2ObjectOpenHashMap<>();
+        private final Map<UnificationEntry, ItemAndMetadata> firstUnifiedItems = new Object2ObjectOpenHashMap<>();
+
+        private Snapshot() {
+            stackUnificationInfo.forEach((key, entry) -> unificationEntries.put(getKey(key.item, key.itemDamage),
+                    entry));
+            materialUnificationInfo.forEach((key, info) -> materialInfos.put(getKey(key.item, key.itemDamage),
+                    info));
+            stackUnificationItems.forEach((entry, keys) -> {
+                if (!keys.isEmpty()) firstUnifiedItems.put(entry, keys.get(0));
+            });
+            for (List<ItemStack> stacks : oreDictNameStacks.values()) {
+                for (ItemStack stack : stacks) {
+                    // single variant items have the same names for every metadata
+                    long key = getKey(stack.getItem(),
+                            stack.getItem().getHasSubtypes() ? stack.getItemDamage() : GTValues.W);
+                    if (!oreDictNames.containsKey(key)) {
+                        oreDictNames.put(key,
+                                Collections.unmodifiableSet(new ObjectOpenHashSet<>(getLiveOreDictionaryNames(stack))));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Looks up the entry of a stack's exact metadata, or else of the wildcard metadata. All tables are keyed by
+         * the stack's metadata as returned by {@link ItemStack#getItemDamage()}.
+         */
+        @Nullable
+        private <T> T getOrWildcard(@NotNull Long2ObjectMap<T> map, @NotNull ItemStack itemStack) {
+            int meta = itemStack.getItemDamage();
+            T t = map.get(getKey(itemStack.getItem(), meta));
+            if (t != null || meta == GTValues.W) return t;
+            return map.get(getKey(itemStack.getItem(), GTValues.W));
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package gregtech.api.util;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenCustomHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the slots of an item handler which can receive more items, by the type of item in them.
+ * <p>
+ * Inserting through the index behaves like {@link GTTransferUtils#insertItem(IItemHandler, ItemStack, boolean)}, but
+ * only tries the slots which hold the same item or are empty, instead of every slot of the handler. The index is
+ * kept up to date with the items inserted through it, but not with other changes to the handler, so it should only
+ * be used for a single transfer operation, and then be {@link #clear() cleared}. The index can be reused afterwards.
+ */
+public class ItemSlotIndex {
+
+    private final Map<ItemStack, IntList> slotsByType = new Object2ObjectOpenCustomHashMap<>(
+            ItemStackHashStrategy.comparingAllButCount());
+    private final IntList emptySlots = new IntArrayList();
+    private final List<IntList> unusedLists = new ArrayList<>();
+    private IItemHandler handler;
+
+    /**
+     * Indexes the slots of a handler, replacing the previous index
+     *
+     * @param handler the handler to index
+     */
+    public void index(@NotNull IItemHandler handler) {
+        clear();
+        this.handler = handler;
+        for (int i = 0; i < handler.getSlots(); i++) {
+            addSlot(i);
+        }
+    }
+
+    /**
+     * @param handler the handler to check
+     * @return if the handler is currently indexed
+     */
+    public boolean isIndexing(@Nullable IItemHandler handler) {
+        return this.handler != null && this.handler == handler;
+    }
+
+    /**
+     * Clears the index, and releases the indexed handler
+     */
+    public void clear() {
+        unusedLists.addAll(slotsByType.values());
+        slotsByType.clear();
+        emptySlots.clear();
+        this.handler = null;
+    }
+
+    /**
+     * Inserts a stack into the indexed handler, first into the slots which already hold the same item, and then into
+     * the empty slots.
+     *
+     * @param stack    the stack to insert
+     * @param simulate whether to only simulate the insertion
+     * @return the part of the stack which could not be inserted
+     */
+    @NotNull
+    public ItemStack insertItem(@NotNull ItemStack stack, boolean simulate) {
+        if (handler == null || stack.isEmpty()) {
+            return stack;
+        }
+        if (stack.isStackable()) {
+            IntList slots = slotsByType.get(stack);
+            if (slots != null) {
+                for (int i = 0; i < slots.size(); i++) {
+                    int slot = slots.getInt(i);
+                    if (!ItemHandlerHelper.canItemStacksStack(stack, handler.getStackInSlot(slot))) continue;
+                    stack = handler.insertItem(slot, stack, simulate);
+                    if (!simulate && !hasRoom(slot)) {
+                        slots.removeInt(i--);
+                    }
+                    if (stack.isEmpty()) {
+                        return ItemStack.EMPTY;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < emptySlots.size(); i++) {
+            int slot = emptySlots.getInt(i);
+            int count = stack.getCount();
+            stack = handler.insertItem(slot, stack, simulate);
+            // some handlers, such as item pipes, always report their slots as empty
+            if (!simulate && stack.getCount() != count && !handler.getStackInSlot(slot).isEmpty()) {
+                emptySlots.removeInt(i--);
+                addSlot(slot);
+            }
+            if (stack.isEmpty()) {
+                return ItemStack.EMPTY;
+            }
+        }
+        return stack;
+    }
+
+    private void addSlot(int slot) {
+        ItemStack stack = handler.getStackInSlot(slot);
+        if (stack.isEmpty()) {
+            emptySlots.add(slot);
+        } else if (stack.isStackable() && hasRoom(slot)) {
+            IntList slots = slotsByType.get(stack);
+            if (slots == null) {
+                slots = unusedLists.isEmpty() ? new IntArrayList() : unusedLists.remove(unusedLists.size() - 1);
+                slots.clear();
+                slotsByType.put(stack.copy(), slots);
+            }
+            slots.add(slot);
+        }
+    }
+
+    private boolean hasRoom(int slot) {
+        return handler.getStackInSlot(slot).getCount() < handler.getSlotLimit(slot);
+    }
+}
@@ -3,10 +3,14 @@ package gregtech.api.util.oreglob;
 import gregtech.api.unification.OreDictUnifier;
 
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
 
@@ -20,6 +24,15 @@ import java.util.List;
 public abstract class OreGlob {
 
     private static OreGlobCompiler compiler;
+    // compiled expressions, shared by all filters using the same expression
+    private static final Cache<String, OreGlobCompileResult> COMPILED = CacheBuilder.newBuilder()
+            .maximumSize(512)
+            .build();
+
+    // match results of ore dictionary IDs, evaluated on first use
+    private final BitSet evaluatedOreIds = new BitSet();
+    private final BitSet matchingOreIds = new BitSet();
+    private byte emptyMatch = -1;
 
     /**
      * Tries to compile the string expression into OreGlob instance.
@@ -37,7 +50,8 @@ public abstract class OreGlob {
     }
 
     /**
-     * Tries to compile the string expression into OreGlob instance.
+     * Tries to compile the string expression into OreGlob instance. Compiling the same expression again returns the
+     * same result, so the match results cached in the instance are shared.
      *
      * @param expression OreGlob expression
      * @param ignoreCase Whether the resulting OreGlob instance should do case-insensitive matches
@@ -47,12 +61,19 @@ public abstract class OreGlob {
     @NotNull
     public static OreGlobCompileResult compile(@NotNull String expression, boolean ignoreCase) {
         if (compiler == null) throw new IllegalStateException("Compiler unavailable");
-        return compiler.compile(expression, ignoreCase);
+        String key = (ignoreCase ? 'i' : 'c') + expression;
+        OreGlobCompileResult result = COMPILED.getIfPresent(key);
+        if (result == null) {
+            result = compiler.compile(expression, ignoreCase);
+            COMPILED.put(key, result);
+        }
+        return result;
     }
 
     @ApiStatus.Internal
     public static void setCompiler(@NotNull OreGlobCompiler compiler) {
         OreGlob.compiler = compiler;
+        COMPILED.invalidateAll();
     }
 
     /**
@@ -162,6 +183,47 @@ public abstract class OreGlob {
         return true;
     }
 
+    /**
+     * Tries to match the name of an ore dictionary ID. The result is cached in this instance.
+     *
+     * @param oreId ore dictionary ID, as returned by {@link OreDictionary#getOreIDs(ItemStack)}
+     * @return Whether this instance matches the name of the ID
+     */
+    public final synchronized boolean matchesOreId(int oreId) {
+        if (!evaluatedOreIds.get(oreId)) {
+            evaluatedOreIds.set(oreId);
+            if (matches(OreDictionary.getOreName(oreId))) {
+                matchingOreIds.set(oreId);
+            }
+        }
+        return matchingOreIds.get(oreId);
+    }
+
+    /**
+     * Tries to match the ore dictionary IDs of an item, using the cached results of {@link #matchesOreId(int)}.
+     * <p>
+     * For items not associated with any ore dictionary entries, this method returns {@code true} if this instance
+     * matches empty string instead.
+     * </p>
+     *
+     * @param stack    Item input
+     * @param matchAll {@code true} if all IDs have to match, {@code false} if any of them has to match
+     * @return Whether this instance matches the input
+     */
+    public final boolean matchesOreIds(@NotNull ItemStack stack, boolean matchAll) {
+        int[] oreIds = stack.isEmpty() ? null : OreDictionary.getOreIDs(stack);
+        if (oreIds == null || oreIds.length == 0) {
+            if (emptyMatch < 0) {
+                this.emptyMatch = (byte) (matches("") ? 1 : 0);
+            }
+            return emptyMatch == 1;
+        }
+        for (int oreId : oreIds) {
+            if (matchesOreId(oreId) != matchAll) return !matchAll;
+        }
+        return matchAll;
+    }
+
     /**
      * Visualize this instance with standard Minecraft text formatting. Two spaces ({@code '  '}) will be used as
      * indentation.
@@ -0,0 +1,37 @@
+package gregtech.api.util.profiler;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The kinds of server logic recorded by the {@link TickProfiler}.
+ */
+public enum ProfilerCategory {
+
+    /**
+     * The whole update of a MetaTileEntity, including its traits and covers
+     */
+    MACHINE("machine"),
+    /**
+     * The update of a single MTETrait
+     */
+    TRAIT("trait"),
+    /**
+     * The update of a single tickable cover
+     */
+    COVER("cover"),
+    /**
+     * The update of a whole tickable pipe net
+     */
+    PIPE_NET("pipe_net");
+
+    private final String name;
+
+    ProfilerCategory(@NotNull String name) {
+        this.name = name;
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,193 @@
+package gregtech.api.util.profiler;
+
+import gregtech.api.GTValues;
+import gregtech.api.util.GTLog;
+
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opt-in recording of the server update times of GregTech machines, traits, covers and pipe nets, per type.
+ * <p>
+ * Recording is disabled by default and is toggled with {@code /gt profile}. While disabled, the only cost of an
+ * instrumented update is a check of a static field.
+ *
+ * <pre>
+ * long start = TickProfiler.start(world);
+ * trait.update();
+ * TickProfiler.record(ProfilerCategory.TRAIT, trait.getClass(), start);
+ * </pre>
+ */
+@Mod.EventBusSubscriber(modid = GTValues.MODID)
+public final class TickProfiler {
+
+    private static final Map<ProfilerCategory, Map<Class<?>, TickTimings>> TIMINGS = new EnumMap<>(
+            ProfilerCategory.class);
+
+    private static boolean enabled;
+    private static long ticks;
+
+    static {
+        for (ProfilerCategory category : ProfilerCategory.values()) {
+            TIMINGS.put(category, new Reference2ObjectOpenHashMap<>());
+        }
+    }
+
+    private TickProfiler() {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        TickProfiler.enabled = enabled;
+    }
+
+    /**
+     * Removes all recorded times
+     */
+    public static void reset() {
+        for (Map<Class<?>, TickTimings> timings : TIMINGS.values()) {
+            timings.clear();
+        }
+        ticks = 0;
+    }
+
+    /**
+     * @return the amount of server ticks recorded
+     */
+    public static long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @param world the world the update happens in
+     * @return the start time of an update to pass to {@link #record(ProfilerCategory, Class, long)}, or 0 if it is
+     *         not recorded
+     */
+    public static long start(@Nullable World world) {
+        if (!enabled || world == null || world.isRemote) return 0L;
+        return System.nanoTime();
+    }
+
+    /**
+     * Records an update which began at a time returned by {@link #start(World)}
+     */
+    public static void record(@NotNull ProfilerCategory category, @NotNull Class<?> type, long start) {
+        if (start == 0L) return;
+        recordNanos(category, type, System.nanoTime() - start);
+    }
+
+    /**
+     * Records an update which was already measured. Must only be called on the server thread.
+     */
+    public static void recordNanos(@NotNull ProfilerCategory category, @NotNull Class<?> type, long nanos) {
+        if (!enabled) return;
+        Map<Class<?>, TickTimings> timings = TIMINGS.get(category);
+        TickTimings typeTimings = timings.get(type);
+        if (typeTimings == null) {
+            typeTimings = new TickTimings(category, type);
+            timings.put(type, typeTimings);
+        }
+        typeTimings.record(nanos);
+    }
+
+    /**
+     * @param category the category to get the timings of, or null for all categories
+     * @return the recorded timings, with the largest total time first
+     */
+    @NotNull
+    public static List<TickTimings> getTimings(@Nullable ProfilerCategory category) {
+        List<TickTimings> list = new ArrayList<>();
+        for (Map.Entry<ProfilerCategory, Map<Class<?>, TickTimings>> entry : TIMINGS.entrySet()) {
+            if (category == null || entry.getKey() == category) {
+                list.addAll(entry.getValue().values());
+            }
+        }
+        list.sort(Comparator.comparingLong(TickTimings::getTotalNanos).reversed());
+        return list;
+    }
+
+    /**
+     * Writes all recorded timings to a CSV or JSON file
+     *
+     * @param file the file to write to
+     * @param json whether to write JSON instead of CSV
+     */
+    public static void dump(@NotNull File file, boolean json) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Could not create directory " + parent);
+        }
+        List<TickTimings> timings = getTimings(null);
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            if (json) {
+                writeJson(writer, timings);
+            } else {
+                writeCsv(writer, timings);
+            }
+        }
+        GTLog.logger.info("Wrote {} tick profiler entries over {} ticks to {}", timings.size(), ticks, file);
+    }
+
+    private static void writeCsv(@NotNull Writer writer, @NotNull List<TickTimings> timings) {
+        PrintWriter printer = new PrintWriter(writer);
+        printer.println("category,type,calls,total_ns,mean_ns,p50_ns,p99_ns,max_ns,ns_per_tick");
+        for (TickTimings timing : timings) {
+            printer.printf("%s,%s,%d,%d,%d,%d,%d,%d,%d%n", timing.getCategory().getName(),
+                    timing.getType().getName(), timing.getCalls(), timing.getTotalNanos(), timing.getMeanNanos(),
+                    timing.getPercentileNanos(0.5), timing.getPercentileNanos(0.99), timing.getMaxNanos(),
+                    ticks == 0 ? 0 : timing.getTotalNanos() / ticks);
+        }
+        printer.flush();
+    }
+
+    private static void writeJson(@NotNull Writer writer, @NotNull List<TickTimings> timings) {
+        JsonObject root = new JsonObject();
+        root.addProperty("ticks", ticks);
+        JsonArray entries = new JsonArray();
+        for (TickTimings timing : timings) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("category", timing.getCategory().getName());
+            entry.addProperty("type", timing.getType().getName());
+            entry.addProperty("calls", timing.getCalls());
+            entry.addProperty("total_ns", timing.getTotalNanos());
+            entry.addProperty("mean_ns", timing.getMeanNanos());
+            entry.addProperty("p50_ns", timing.getPercentileNanos(0.5));
+            entry.addProperty("p99_ns", timing.getPercentileNanos(0.99));
+            entry.addProperty("max_ns", timing.getMaxNanos());
+            entry.addProperty("ns_per_tick", ticks == 0 ? 0 : timing.getTotalNanos() / ticks);
+            entries.add(entry);
+        }
+        root.add("timings", entries);
+        new GsonBuilder().setPrettyPrinting().create().toJson(root, writer);
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (enabled && event.phase == TickEvent.Phase.END) {
+            ticks++;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package gregtech.api.util.profiler;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The recorded update times of one type in a {@link ProfilerCategory}.
+ * <p>
+ * Times are kept in a histogram with power of two buckets, so percentiles are upper bounds which are at most twice
+ * the real value.
+ */
+public class TickTimings {
+
+    private static final int BUCKETS = 40;
+
+    private final ProfilerCategory category;
+    private final Class<?> type;
+    private final long[] histogram = new long[BUCKETS];
+    private long calls;
+    private long totalNanos;
+    private long maxNanos;
+
+    public TickTimings(@NotNull ProfilerCategory category, @NotNull Class<?> type) {
+        this.category = category;
+        this.type = type;
+    }
+
+    void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        this.calls++;
+        this.totalNanos += nanos;
+        if (nanos > this.maxNanos) this.maxNanos = nanos;
+        int bucket = nanos == 0 ? 0 : Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(nanos));
+        this.histogram[bucket]++;
+    }
+
+    @NotNull
+    public ProfilerCategory getCategory() {
+        return category;
+    }
+
+    @NotNull
+    public Class<?> getType() {
+        return type;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getMeanNanos() {
+        return calls == 0 ? 0 : totalNanos / calls;
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 1
+     * @return the upper bound of the update time which the given share of the updates did not exceed
+     */
+    public long getPercentileNanos(double percentile) {
+        long target = (long) Math.ceil(calls * percentile);
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += histogram[i];
+            if (count >= target && count > 0) {
+                return Math.min(maxNanos, (1L << (i + 1)) - 1);
+            }
+        }
+        return maxNanos;
+    }
+}
@@ -6,6 +6,7 @@ import gregtech.api.block.VariantItemBlock;
 import gregtech.api.block.machines.MachineItemBlock;
 import gregtech.api.items.metaitem.MetaItem;
 import gregtech.api.items.toolitem.IGTTool;
+import gregtech.api.pipenet.tickable.TickableWorldPipeNetEventHandler;
 import gregtech.api.recipes.GTRecipeInputCache;
 import gregtech.api.recipes.ModHandler;
 import gregtech.api.recipes.recipeproperties.FusionEUToStartProperty;
@@ -27,6 +28,7 @@ import gregtech.common.pipelike.cable.BlockCable;
 import gregtech.common.pipelike.cable.ItemBlockCable;
 import gregtech.common.pipelike.fluidpipe.BlockFluidPipe;
 import gregtech.common.pipelike.fluidpipe.ItemBlockFluidPipe;
+import gregtech.common.pipelike.fluidpipe.net.WorldFluidPipeNet;
 import gregtech.common.pipelike.itempipe.BlockItemPipe;
 import gregtech.common.pipelike.itempipe.ItemBlockItemPipe;
 import gregtech.common.pipelike.laser.BlockLaserPipe;
@@ -385,7 +387,11 @@ public class CommonProxy {
         return itemBlock;
     }
 
-    public void onPreLoad() {}
+    public void onPreLoad() {
+        if (ConfigHolder.machines.fluidPipeNetSolver) {
+            TickableWorldPipeNetEventHandler.registerTickablePipeNet(WorldFluidPipeNet::getWorldPipeNet);
+        }
+    }
 
     public void onLoad() {}
 
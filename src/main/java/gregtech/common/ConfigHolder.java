@@ -161,6 +161,28 @@ public class ConfigHolder {
                 "This does NOT apply to the World Accelerator, but to external effects like Time in a Bottle.",
                 "Default: true" })
         public boolean allowTickAcceleration = true;
+
+        @Config.Comment({ "The amount of input layouts without a matching recipe to remember per Recipe Map.",
+                "Machines with these exact inputs skip the recipe search until the Recipe Map changes.",
+                "Set to 0 to disable.", "Default: 256" })
+        @Config.RangeInt(min = 0)
+        public int recipeNegativeCacheSize = 256;
+
+        @Config.Comment({ "Whether fluid pipe networks move their fluid as a whole, instead of pipe by pipe.",
+                "Fluid reaches every output of a network at once, limited by the narrowest pipe in it.",
+                "Greatly reduces the cost of long fluid pipe lines.", "Default: false" })
+        public boolean fluidPipeNetSolver = false;
+
+        @Config.Comment({ "The interval in ticks at which formed multiblock structures are checked again anyway.",
+                "Formed structures are otherwise only checked when one of their blocks changes.",
+                "Set to 20 to check every second, like unformed structures.", "Default: 600" })
+        @Config.RangeInt(min = 20)
+        public int structureCheckFallbackInterval = 600;
+
+        @Config.Comment({ "Whether multiblocks in distinct bus mode run a separate recipe for every input bus at once.",
+                "The recipes of all buses together use at most the voltage of the multiblock,",
+                "and its parallel limit is split between the buses.", "Default: false" })
+        public boolean distinctBusLanes = false;
     }
 
     public static class WorldGenOptions {
@@ -338,6 +360,10 @@ public class ConfigHolder {
             @Config.RangeInt(min = 1, max = 80)
             public int updateIntervals = 40;
 
+            @Config.Comment({ "Whether ME Hatch/Bus listen to storage changes of the ME network, and skip",
+                    "interacting with it while nothing they wait for has changed.", "Default: false" })
+            public boolean eventDrivenSync = false;
+
             @Config.Comment({ "The energy consumption of ME Hatch/Bus.", "Default: 1.0AE/t" })
             @Config.RangeDouble(min = 0.0, max = 10.0)
             public double meHatchEnergyUsage = 1.0;
@@ -360,6 +386,11 @@ public class ConfigHolder {
         @Config.Comment({ "Whether to enable a login message to players when they join the world.", "Default: true" })
         public boolean loginMessage = true;
 
+        @Config.RangeInt(min = 1, max = 100)
+        @Config.Comment({ "How often, in ticks, the text of open GUIs like multiblock displays is refreshed.",
+                "Higher values reduce server load and network traffic.", "Default: 5" })
+        public int displayTextUpdateInterval = 5;
+
         @Config.RangeInt(min = 0, max = 100)
         @Config.Comment({ "Chance with which flint and steel will create fire.", "Default: 50" })
         @Config.SlidingOption
@@ -674,6 +705,16 @@ public class ConfigHolder {
         @Config.SlidingOption
         public int rngDamageElectricTools = 10;
 
+        @Config.Comment({ "The maximum amount of logs broken by felling a single tree.", "Default: 1024" })
+        @Config.RangeInt(min = 1)
+        public int treeFellingBlockLimit = 1024;
+
+        @Config.Comment({ "The maximum time in microseconds spent on tree felling per world tick,",
+                "shared by all trees being felled in that world. At least one log is broken per tick.",
+                "Default: 2000" })
+        @Config.RangeInt(min = 1)
+        public int treeFellingTickBudget = 2000;
+
         @Config.Comment("Armor HUD Location")
         public ArmorHud armorHud = new ArmorHud();
     }
@@ -0,0 +1,134 @@
+package gregtech.common.command;
+
+import gregtech.api.util.GTLog;
+import gregtech.api.util.profiler.ProfilerCategory;
+import gregtech.api.util.profiler.TickProfiler;
+import gregtech.api.util.profiler.TickTimings;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+public class CommandProfile extends CommandBase {
+
+    private static final String[] ACTIONS = { "start", "stop", "reset", "top", "dump" };
+
+    @NotNull
+    @Override
+    public String getName() {
+        return "profile";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 3;
+    }
+
+    @NotNull
+    @Override
+    public String getUsage(@NotNull ICommandSender sender) {
+        return "gregtech.command.profile.usage";
+    }
+
+    @Override
+    public void execute(@NotNull MinecraftServer server, @NotNull ICommandSender sender,
+                        @NotNull String[] args) throws CommandException {
+        if (args.length == 0) {
+            throw new WrongUsageException(getUsage(sender));
+        }
+        switch (args[0]) {
+            case "start" -> {
+                TickProfiler.setEnabled(true);
+                sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.start"));
+            }
+            case "stop" -> {
+                TickProfiler.setEnabled(false);
+                sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.stop",
+                        TickProfiler.getTicks()));
+            }
+            case "reset" -> {
+                TickProfiler.reset();
+                sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.reset"));
+            }
+            case "top" -> {
+                ProfilerCategory category = args.length > 1 ? parseCategory(args[1]) : null;
+                int count = args.length > 2 ? parseInt(args[2], 1, 100) : 10;
+                showTop(sender, category, count);
+            }
+            case "dump" -> {
+                boolean json = args.length > 1 && args[1].equals("json");
+                String date = new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date());
+                File file = server.getFile("gregtech/profiler/tick_profile_" + date + (json ? ".json" : ".csv"));
+                try {
+                    TickProfiler.dump(file, json);
+                    sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.dump.success",
+                            file.getPath()));
+                } catch (IOException e) {
+                    GTLog.logger.error("Failed to write the tick profile", e);
+                    sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.dump.failed"));
+                }
+            }
+            default -> throw new WrongUsageException(getUsage(sender));
+        }
+    }
+
+    private static void showTop(@NotNull ICommandSender sender, @Nullable ProfilerCategory category, int count) {
+        List<TickTimings> timings = TickProfiler.getTimings(category);
+        long ticks = Math.max(1, TickProfiler.getTicks());
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.top", TickProfiler.getTicks()));
+        for (int i = 0; i < Math.min(count, timings.size()); i++) {
+            TickTimings timing = timings.get(i);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profile.entry",
+                    timing.getCategory().getName(), timing.getType().getSimpleName(),
+                    String.format("%.3f", timing.getTotalNanos() / (double) ticks / 1_000_000),
+                    timing.getCalls(),
+                    String.format("%.1f", timing.getMeanNanos() / 1000.0),
+                    String.format("%.1f", timing.getPercentileNanos(0.99) / 1000.0),
+                    String.format("%.1f", timing.getMaxNanos() / 1000.0)));
+        }
+    }
+
+    @NotNull
+    private static ProfilerCategory parseCategory(@NotNull String name) throws CommandException {
+        for (ProfilerCategory category : ProfilerCategory.values()) {
+            if (category.getName().equals(name)) {
+                return category;
+            }
+        }
+        throw new CommandException("gregtech.command.profile.unknown_category", name);
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletions(@NotNull MinecraftServer server, @NotNull ICommandSender sender,
+                                          @NotNull String[] args, @Nullable BlockPos targetPos) {
+        if (args.length == 1) {
+            return getListOfStringsMatchingLastWord(args, ACTIONS);
+        }
+        if (args.length == 2) {
+            if (args[0].equals("top")) {
+                return getListOfStringsMatchingLastWord(args, Arrays.stream(ProfilerCategory.values())
+                        .map(ProfilerCategory::getName).toArray(String[]::new));
+            }
+            if (args[0].equals("dump")) {
+                return getListOfStringsMatchingLastWord(args, "csv", "json");
+            }
+        }
+        return Collections.emptyList();
+    }
+}
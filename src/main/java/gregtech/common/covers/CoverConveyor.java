@@ -7,12 +7,13 @@ import gregtech.api.capability.IControllable;
 import gregtech.api.capability.impl.ItemHandlerDelegate;
 import gregtech.api.cover.CoverBase;
 import gregtech.api.cover.CoverDefinition;
+import gregtech.api.cover.CoverSleepTimer;
 import gregtech.api.cover.CoverWithUI;
 import gregtech.api.cover.CoverableView;
 import gregtech.api.gui.GuiTextures;
 import gregtech.api.gui.ModularUI;
 import gregtech.api.gui.widgets.*;
-import gregtech.api.util.GTTransferUtils;
+import gregtech.api.util.ItemSlotIndex;
 import gregtech.api.util.ItemStackHashStrategy;
 import gregtech.client.renderer.texture.Textures;
 import gregtech.client.renderer.texture.cube.SimpleSidedCubeRenderer;
@@ -62,6 +63,11 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
     protected int itemsLeftToTransferLastSecond;
     private CoverableItemHandlerWrapper itemHandlerWrapper;
     protected boolean isWorkingAllowed = true;
+    private final CoverSleepTimer sleepTimer = new CoverSleepTimer();
+    // reused between transfers
+    private final ItemSlotIndex targetSlotIndex = new ItemSlotIndex();
+    private final Set<ItemStack> rejectedItemTypes = new ObjectOpenCustomHashSet<>(
+            ItemStackHashStrategy.comparingAllButCount());
 
     public CoverConveyor(@NotNull CoverDefinition definition, @NotNull CoverableView coverableView,
                          @NotNull EnumFacing attachedSide, int tier, int itemsPerSecond) {
@@ -138,16 +144,28 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
     public void update() {
         CoverableView coverable = getCoverableView();
         long timer = coverable.getOffsetTimer();
+        if (sleepTimer.onUpdate(timer, 20)) {
+            // slept through the reset of the transfer limit
+            this.itemsLeftToTransferLastSecond = transferRate;
+        }
         if (timer % 5 == 0 && isWorkingAllowed && itemsLeftToTransferLastSecond > 0) {
             EnumFacing side = getAttachedSide();
             TileEntity tileEntity = coverable.getNeighbor(side);
             IItemHandler itemHandler = tileEntity == null ? null :
                     tileEntity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side.getOpposite());
             IItemHandler myItemHandler = coverable.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side);
+            int totalTransferred = 0;
             if (itemHandler != null && myItemHandler != null) {
-                int totalTransferred = doTransferItems(itemHandler, myItemHandler, itemsLeftToTransferLastSecond);
+                totalTransferred = doTransferItems(itemHandler, myItemHandler, itemsLeftToTransferLastSecond);
                 this.itemsLeftToTransferLastSecond -= totalTransferred;
             }
+            if (totalTransferred > 0) {
+                sleepTimer.wakeUp();
+            } else {
+                sleepTimer.sleep(timer);
+            }
+        } else if (!isWorkingAllowed) {
+            sleepTimer.sleepUntilWoken();
         }
         if (timer % 20 == 0) {
             this.itemsLeftToTransferLastSecond = transferRate;
@@ -200,15 +218,23 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
     protected boolean doTransferItemsExact(IItemHandler itemHandler, IItemHandler myItemHandler,
                                            TypeItemInfo itemInfo) {
         if (conveyorMode == ConveyorMode.IMPORT) {
-            return moveInventoryItemsExact(itemHandler, myItemHandler, itemInfo);
+            return moveInventoryItemsExact(itemHandler, myItemHandler, itemInfo, targetSlotIndex);
         } else if (conveyorMode == ConveyorMode.EXPORT) {
-            return moveInventoryItemsExact(myItemHandler, itemHandler, itemInfo);
+            return moveInventoryItemsExact(myItemHandler, itemHandler, itemInfo, targetSlotIndex);
         }
         return false;
     }
 
     protected static boolean moveInventoryItemsExact(IItemHandler sourceInventory, IItemHandler targetInventory,
                                                      TypeItemInfo itemInfo) {
+        return moveInventoryItemsExact(sourceInventory, targetInventory, itemInfo, new ItemSlotIndex());
+    }
+
+    /**
+     * @param targetSlotIndex an index to use for inserting into the target inventory, which is cleared afterwards
+     */
+    protected static boolean moveInventoryItemsExact(IItemHandler sourceInventory, IItemHandler targetInventory,
+                                                     TypeItemInfo itemInfo, ItemSlotIndex targetSlotIndex) {
         // first, compute how much can we extract in reality from the machine,
         // because totalCount is based on what getStackInSlot returns, which may differ from what
         // extractItem() will return
@@ -239,13 +265,16 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
 
         // now, see how much we can insert into destination inventory
         // if we can't insert as much as itemInfo requires, and remainder is empty, abort, abort
-        ItemStack remainder = GTTransferUtils.insertItem(targetInventory, resultStack, true);
+        targetSlotIndex.index(targetInventory);
+        ItemStack remainder = targetSlotIndex.insertItem(resultStack, true);
         if (!remainder.isEmpty()) {
+            targetSlotIndex.clear();
             return false;
         }
 
         // otherwise, perform real insertion and then remove items from the source inventory
-        GTTransferUtils.insertItem(targetInventory, resultStack, false);
+        targetSlotIndex.insertItem(resultStack, false);
+        targetSlotIndex.clear();
 
         // perform real extraction of the items from the source inventory now
         itemsLeftToExtract = itemInfo.totalCount;
@@ -267,6 +296,7 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
     protected int moveInventoryItems(IItemHandler sourceInventory, IItemHandler targetInventory,
                                      Map<Object, GroupItemInfo> itemInfos, int maxTransferAmount) {
         int itemsLeftToTransfer = maxTransferAmount;
+        targetSlotIndex.index(targetInventory);
         for (int i = 0; i < sourceInventory.getSlots(); i++) {
             ItemStack itemStack = sourceInventory.getStackInSlot(i);
             if (itemStack.isEmpty()) {
@@ -282,7 +312,7 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
             ItemStack extractedStack = sourceInventory.extractItem(i,
                     Math.min(itemInfo.totalCount, itemsLeftToTransfer), true);
 
-            ItemStack remainderStack = GTTransferUtils.insertItem(targetInventory, extractedStack, true);
+            ItemStack remainderStack = targetSlotIndex.insertItem(extractedStack, true);
             int amountToInsert = extractedStack.getCount() - remainderStack.getCount();
 
             if (amountToInsert > 0) {
@@ -290,7 +320,7 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
 
                 if (!extractedStack.isEmpty()) {
 
-                    GTTransferUtils.insertItem(targetInventory, extractedStack, false);
+                    targetSlotIndex.insertItem(extractedStack, false);
                     itemsLeftToTransfer -= extractedStack.getCount();
                     itemInfo.totalCount -= extractedStack.getCount();
 
@@ -306,35 +336,42 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
                 }
             }
         }
+        targetSlotIndex.clear();
         return maxTransferAmount - itemsLeftToTransfer;
     }
 
     protected int moveInventoryItems(IItemHandler sourceInventory, IItemHandler targetInventory,
                                      int maxTransferAmount) {
         int itemsLeftToTransfer = maxTransferAmount;
+        targetSlotIndex.index(targetInventory);
         for (int srcIndex = 0; srcIndex < sourceInventory.getSlots(); srcIndex++) {
             ItemStack sourceStack = sourceInventory.extractItem(srcIndex, itemsLeftToTransfer, true);
             if (sourceStack.isEmpty()) {
                 continue;
             }
-            if (!itemFilterContainer.testItemStack(sourceStack)) {
+            // the target only fills up during a transfer, so items which did not fit before will not fit now
+            if (rejectedItemTypes.contains(sourceStack) || !itemFilterContainer.testItemStack(sourceStack)) {
                 continue;
             }
-            ItemStack remainder = GTTransferUtils.insertItem(targetInventory, sourceStack, true);
+            ItemStack remainder = targetSlotIndex.insertItem(sourceStack, true);
             int amountToInsert = sourceStack.getCount() - remainder.getCount();
 
             if (amountToInsert > 0) {
                 sourceStack = sourceInventory.extractItem(srcIndex, amountToInsert, false);
                 if (!sourceStack.isEmpty()) {
-                    GTTransferUtils.insertItem(targetInventory, sourceStack, false);
+                    targetSlotIndex.insertItem(sourceStack, false);
                     itemsLeftToTransfer -= sourceStack.getCount();
 
                     if (itemsLeftToTransfer == 0) {
                         break;
                     }
                 }
+            } else {
+                rejectedItemTypes.add(sourceStack);
             }
         }
+        targetSlotIndex.clear();
+        rejectedItemTypes.clear();
         return maxTransferAmount - itemsLeftToTransfer;
     }
 
@@ -534,6 +571,17 @@ public class CoverConveyor extends CoverBase implements CoverWithUI, ITickable,
     @Override
     public void setWorkingEnabled(boolean isActivationAllowed) {
         this.isWorkingAllowed = isActivationAllowed;
+        wakeUp();
+    }
+
+    @Override
+    public boolean isSleeping() {
+        return sleepTimer.isSleeping(getOffsetTimer());
+    }
+
+    @Override
+    public void wakeUp() {
+        sleepTimer.wakeUp();
     }
 
     @Override
@@ -7,6 +7,7 @@ import gregtech.api.capability.IControllable;
 import gregtech.api.capability.impl.FluidHandlerDelegate;
 import gregtech.api.cover.CoverBase;
 import gregtech.api.cover.CoverDefinition;
+import gregtech.api.cover.CoverSleepTimer;
 import gregtech.api.cover.CoverWithUI;
 import gregtech.api.cover.CoverableView;
 import gregtech.api.gui.GuiTextures;
@@ -56,6 +57,9 @@ import java.util.function.IntSupplier;
 
 public class CoverPump extends CoverBase implements CoverWithUI, ITickable, IControllable {
 
+    // the pump transfers every tick, so it only sleeps after failing for as long as a conveyor waits between transfers
+    private static final int ATTEMPTS_BEFORE_SLEEP = 5;
+
     public final int tier;
     public final int maxFluidTransferRate;
     protected int transferRate;
@@ -65,6 +69,8 @@ public class CoverPump extends CoverBase implements CoverWithUI, ITickable, ICon
     protected int fluidLeftToTransferLastSecond;
     private CoverableFluidHandlerWrapper fluidHandlerWrapper;
     protected boolean isWorkingAllowed = true;
+    private final CoverSleepTimer sleepTimer = new CoverSleepTimer();
+    private int failedAttempts;
     protected FluidFilterContainer fluidFilter;
     protected BucketMode bucketMode = BucketMode.MILLI_BUCKET;
 
@@ -133,8 +139,22 @@ public class CoverPump extends CoverBase implements CoverWithUI, ITickable, ICon
     @Override
     public void update() {
         long timer = getOffsetTimer();
+        if (sleepTimer.onUpdate(timer, 20)) {
+            // slept through the reset of the transfer limit
+            this.fluidLeftToTransferLastSecond = transferRate;
+        }
         if (isWorkingAllowed && fluidLeftToTransferLastSecond > 0) {
-            this.fluidLeftToTransferLastSecond -= doTransferFluids(fluidLeftToTransferLastSecond);
+            int transferred = doTransferFluids(fluidLeftToTransferLastSecond);
+            this.fluidLeftToTransferLastSecond -= transferred;
+            if (transferred > 0) {
+                this.failedAttempts = 0;
+                sleepTimer.wakeUp();
+            } else if (++failedAttempts >= ATTEMPTS_BEFORE_SLEEP) {
+                this.failedAttempts = 0;
+                sleepTimer.sleep(timer);
+            }
+        } else if (!isWorkingAllowed) {
+            sleepTimer.sleepUntilWoken();
         }
         if (timer % 20 == 0) {
             this.fluidLeftToTransferLastSecond = transferRate;
@@ -334,6 +354,17 @@ public class CoverPump extends CoverBase implements CoverWithUI, ITickable, ICon
     @Override
     public void setWorkingEnabled(boolean isActivationAllowed) {
         this.isWorkingAllowed = isActivationAllowed;
+        wakeUp();
+    }
+
+    @Override
+    public boolean isSleeping() {
+        return sleepTimer.isSleeping(getOffsetTimer());
+    }
+
+    @Override
+    public void wakeUp() {
+        sleepTimer.wakeUp();
     }
 
     @Override
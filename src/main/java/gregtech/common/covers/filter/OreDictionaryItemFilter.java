@@ -6,10 +6,6 @@ import gregtech.api.gui.resources.TextureArea;
 import gregtech.api.gui.widgets.DrawableWidget;
 import gregtech.api.gui.widgets.ImageCycleButtonWidget;
 import gregtech.api.gui.widgets.ImageWidget;
-import gregtech.api.unification.OreDictUnifier;
-import gregtech.api.unification.stack.ItemVariantMap;
-import gregtech.api.unification.stack.MultiItemVariantMap;
-import gregtech.api.unification.stack.SingleItemVariantMap;
 import gregtech.api.util.function.BooleanConsumer;
 import gregtech.api.util.oreglob.OreGlob;
 import gregtech.api.util.oreglob.OreGlobCompileResult;
@@ -18,26 +14,19 @@ import gregtech.common.gui.widget.HighlightedTextField;
 import gregtech.common.gui.widget.orefilter.ItemOreFilterTestSlot;
 import gregtech.common.gui.widget.orefilter.OreGlobCompileStatusWidget;
 
-import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.text.TextFormatting;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Map;
-import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 public class OreDictionaryItemFilter extends ItemFilter {
 
-    private final Map<Item, ItemVariantMap.Mutable<Boolean>> matchCache = new Object2ObjectOpenHashMap<>();
-    private final SingleItemVariantMap<Boolean> noOreDictMatch = new SingleItemVariantMap<>();
-
     protected String expression = "";
 
     private OreGlob glob = ImpossibleOreGlob.getInstance();
@@ -61,7 +50,6 @@ public class OreDictionaryItemFilter extends ItemFilter {
     }
 
     protected void recompile(@Nullable Consumer<@Nullable OreGlobCompileResult> callback) {
-        clearCache();
         String expr = this.expression;
         if (!expr.isEmpty()) {
             OreGlobCompileResult result = OreGlob.compile(expr, !this.caseSensitive);
@@ -75,11 +63,6 @@ public class OreDictionaryItemFilter extends ItemFilter {
         }
     }
 
-    protected void clearCache() {
-        this.matchCache.clear();
-        this.noOreDictMatch.clear();
-    }
-
     @Override
     public void initUI(Consumer<Widget> widgetGroup) {
         ItemOreFilterTestSlot[] testSlot = new ItemOreFilterTestSlot[5];
@@ -165,7 +148,6 @@ public class OreDictionaryItemFilter extends ItemFilter {
                     if (this.matchAll == matchAll) return;
                     this.matchAll = matchAll;
                     markDirty();
-                    clearCache();
                     for (ItemOreFilterTestSlot slot : testSlot) {
                         slot.setMatchAll(matchAll);
                     }
@@ -181,45 +163,8 @@ public class OreDictionaryItemFilter extends ItemFilter {
 
     public boolean matchesItemStack(@NotNull ItemStack itemStack) {
         if (this.error) return false;
-        Item item = itemStack.getItem();
-        ItemVariantMap<Set<String>> oreDictEntry = OreDictUnifier.getOreDictionaryEntry(item);
-
-        if (oreDictEntry == null) {
-            // no oredict entries associated
-            Boolean cached = this.noOreDictMatch.getEntry();
-            if (cached == null) {
-                cached = this.glob.matches("");
-            }
-            this.matchCache.put(item, this.noOreDictMatch);
-            return cached;
-        }
-
-        ItemVariantMap.Mutable<Boolean> cacheEntry = this.matchCache.get(item);
-        if (cacheEntry != null) {
-            Boolean cached = cacheEntry.get(itemStack);
-            if (cached != null) return cached;
-        }
-
-        if (cacheEntry == null) {
-            if (oreDictEntry.isEmpty()) {
-                // no oredict entries associated
-                Boolean cached = this.noOreDictMatch.getEntry();
-                if (cached == null) {
-                    cached = this.glob.matches("");
-                    this.noOreDictMatch.put(cached);
-                }
-                this.matchCache.put(item, this.noOreDictMatch);
-                return cached;
-            } else if (!item.getHasSubtypes() || !oreDictEntry.hasNonWildcardEntry()) {
-                cacheEntry = new SingleItemVariantMap<>(); // we can just ignore metadata and use shared cache
-            } else {
-                cacheEntry = new MultiItemVariantMap<>(); // variant items
-            }
-            this.matchCache.put(item, cacheEntry);
-        }
-        boolean matches = this.matchAll ? this.glob.matchesAll(itemStack) : this.glob.matchesAny(itemStack);
-        cacheEntry.put(itemStack, matches);
-        return matches;
+        // match results are cached by the glob, which is shared by all filters with the same expression
+        return this.glob.matchesOreIds(itemStack, this.matchAll);
     }
 
     @Override
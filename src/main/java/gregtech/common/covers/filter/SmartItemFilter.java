@@ -1,5 +1,6 @@
 package gregtech.common.covers.filter;
 
+import gregtech.api.GTValues;
 import gregtech.api.gui.Widget;
 import gregtech.api.gui.widgets.CycleButtonWidget;
 import gregtech.api.recipes.Recipe;
@@ -8,15 +9,19 @@ import gregtech.api.recipes.RecipeMaps;
 import gregtech.api.recipes.ingredients.GTRecipeInput;
 import gregtech.api.unification.stack.ItemAndMetadata;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.IStringSerializable;
 
-import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
-import java.util.Map;
 import java.util.function.Consumer;
 
 public class SmartItemFilter extends ItemFilter {
@@ -40,29 +45,22 @@ public class SmartItemFilter extends ItemFilter {
 
     @Override
     public Object matchItemStack(ItemStack itemStack) {
-        ItemAndMetadata itemAndMetadata = new ItemAndMetadata(itemStack);
-        Integer cachedTransferRateValue = filteringMode.transferStackSizesCache.get(itemAndMetadata);
-
-        if (cachedTransferRateValue == null) {
-            ItemStack infinitelyBigStack = itemStack.copy();
-            infinitelyBigStack.setCount(Integer.MAX_VALUE);
-
-            Recipe recipe = filteringMode.recipeMap.findRecipe(Long.MAX_VALUE,
-                    Collections.singletonList(infinitelyBigStack), Collections.emptyList());
-            if (recipe == null) {
-                filteringMode.transferStackSizesCache.put(itemAndMetadata, 0);
-                cachedTransferRateValue = 0;
-            } else {
-                GTRecipeInput inputIngredient = recipe.getInputs().iterator().next();
-                filteringMode.transferStackSizesCache.put(itemAndMetadata, inputIngredient.getAmount());
-                cachedTransferRateValue = inputIngredient.getAmount();
-            }
+        Long2ObjectMap<ItemAndMetadataAndStackSize> transferStackSizes = filteringMode.getTransferStackSizes();
+        ItemAndMetadataAndStackSize match = transferStackSizes.get(itemKey(itemStack.getItem(),
+                itemStack.getItemDamage()));
+        if (match != null) {
+            return match;
         }
-
-        if (cachedTransferRateValue == 0) {
-            return null;
+        match = transferStackSizes.get(itemKey(itemStack.getItem(), GTValues.W));
+        if (match != null) {
+            // wildcard entries are shared, but each variant needs its own match slot
+            return new ItemAndMetadataAndStackSize(new ItemAndMetadata(itemStack), match.transferStackSize);
         }
-        return new ItemAndMetadataAndStackSize(itemAndMetadata, cachedTransferRateValue);
+        return null;
+    }
+
+    private static long itemKey(@NotNull Item item, int metadata) {
+        return ((long) Item.getIdFromItem(item) << 32) | (metadata & 0xFFFFFFFFL);
     }
 
     @Override
@@ -122,9 +120,10 @@ public class SmartItemFilter extends ItemFilter {
         CENTRIFUGE("cover.smart_item_filter.filtering_mode.centrifuge", RecipeMaps.CENTRIFUGE_RECIPES),
         SIFTER("cover.smart_item_filter.filtering_mode.sifter", RecipeMaps.SIFTER_RECIPES);
 
-        private final Map<ItemAndMetadata, Integer> transferStackSizesCache = new Object2IntOpenHashMap<>();
         public final String localeName;
         public final RecipeMap<?> recipeMap;
+        private volatile Long2ObjectMap<ItemAndMetadataAndStackSize> transferStackSizes;
+        private int transferStackSizesRevision;
 
         SmartFilteringMode(String localeName, RecipeMap<?> recipeMap) {
             this.localeName = localeName;
@@ -136,5 +135,77 @@ public class SmartItemFilter extends ItemFilter {
         public String getName() {
             return localeName;
         }
+
+        /**
+         * Builds the transfer stack sizes of all modes, for example once all recipes are loaded.
+         */
+        public static void buildTransferStackSizes() {
+            for (SmartFilteringMode mode : values()) {
+                mode.rebuildTransferStackSizes();
+            }
+        }
+
+        /**
+         * Rebuilds the transfer stack sizes of the modes using a recipe map, if its recipes changed since they were
+         * built, for example after a script reload.
+         *
+         * @param recipeMap the recipe map whose recipes were changed
+         */
+        public static void onRecipesChanged(@NotNull RecipeMap<?> recipeMap) {
+            for (SmartFilteringMode mode : values()) {
+                if (mode.recipeMap == recipeMap && mode.transferStackSizesRevision != recipeMap.getRevision()) {
+                    mode.rebuildTransferStackSizes();
+                }
+            }
+        }
+
+        @NotNull
+        private Long2ObjectMap<ItemAndMetadataAndStackSize> getTransferStackSizes() {
+            Long2ObjectMap<ItemAndMetadataAndStackSize> sizes = this.transferStackSizes;
+            return sizes == null ? rebuildTransferStackSizes() : sizes;
+        }
+
+        /**
+         * Collects the stack size of the item input of every recipe which can run with only that item, like a recipe
+         * search for a single, infinitely big stack of the item. Items used by several such recipes take the stack
+         * size of the recipe the search finds.
+         */
+        @NotNull
+        private synchronized Long2ObjectMap<ItemAndMetadataAndStackSize> rebuildTransferStackSizes() {
+            int revision = recipeMap.getRevision();
+            Long2ObjectMap<ItemAndMetadataAndStackSize> sizes = new Long2ObjectOpenHashMap<>();
+            LongSet ambiguous = new LongOpenHashSet();
+            for (Recipe recipe : recipeMap.getRecipeList()) {
+                if (recipe.getInputs().size() != 1 || !recipe.getFluidInputs().isEmpty()) continue;
+                GTRecipeInput input = recipe.getInputs().get(0);
+                // inputs with an NBT condition depend on more than the item and metadata
+                if (input.isNonConsumable() || input.hasNBTMatchingCondition()) continue;
+                for (ItemStack stack : input.getInputStacks()) {
+                    if (stack.isEmpty()) continue;
+                    long key = itemKey(stack.getItem(), stack.getItemDamage());
+                    ItemAndMetadataAndStackSize size = sizes.get(key);
+                    if (size == null) {
+                        sizes.put(key, new ItemAndMetadataAndStackSize(new ItemAndMetadata(stack), input.getAmount()));
+                    } else if (size.transferStackSize != input.getAmount()) {
+                        ambiguous.add(key);
+                    }
+                }
+            }
+            for (long key : ambiguous) {
+                ItemAndMetadataAndStackSize size = sizes.get(key);
+                // a wildcard stands for every variant, which the search cannot be asked about at once
+                if (size.itemAndMetadata.isWildcard()) continue;
+                ItemStack infinitelyBigStack = size.itemAndMetadata.toItemStack(Integer.MAX_VALUE);
+                Recipe recipe = recipeMap.findRecipe(Long.MAX_VALUE, Collections.singletonList(infinitelyBigStack),
+                        Collections.emptyList());
+                if (recipe != null) {
+                    sizes.put(key, new ItemAndMetadataAndStackSize(size.itemAndMetadata,
+                            recipe.getInputs().get(0).getAmount()));
+                }
+            }
+            this.transferStackSizesRevision = revision;
+            this.transferStackSizes = Long2ObjectMaps.unmodifiable(sizes);
+            return this.transferStackSizes;
+        }
     }
 }
@@ -73,6 +73,8 @@ public class AEFluidGridWidget extends AEListGridWidget<IAEFluidStack> {
                 }
             }
         }
+        // the changes are sent as differences, so there is nothing to send if nothing changed
+        if (this.changeMap.isEmpty()) return;
         this.writeUpdateInfo(CONTENT_CHANGE_ID, buf -> {
             buf.writeVarInt(this.changeMap.size());
             for (IAEFluidStack fluid : this.changeMap.keySet()) {
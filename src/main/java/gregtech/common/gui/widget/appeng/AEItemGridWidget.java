@@ -74,6 +74,8 @@ public class AEItemGridWidget extends AEListGridWidget<IAEItemStack> {
                 }
             }
         }
+        // the changes are sent as differences, so there is nothing to send if nothing changed
+        if (this.changeMap.isEmpty()) return;
         this.writeUpdateInfo(CONTENT_CHANGE_ID, buf -> {
             buf.writeVarInt(this.changeMap.size());
             for (IAEItemStack item : this.changeMap.keySet()) {
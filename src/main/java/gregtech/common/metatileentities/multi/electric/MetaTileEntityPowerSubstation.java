@@ -28,6 +28,7 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagLongArray;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ResourceLocation;
@@ -42,6 +43,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import codechicken.lib.render.CCRenderState;
 import codechicken.lib.render.pipeline.IVertexOperation;
 import codechicken.lib.vec.Matrix4;
+import it.unimi.dsi.fastutil.longs.Long2IntLinkedOpenHashMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.VisibleForTesting;
@@ -590,45 +592,70 @@ public class MetaTileEntityPowerSubstation extends MultiblockWithDisplayBase
         private static final String NBT_SIZE = "Size";
         private static final String NBT_STORED = "Stored";
         private static final String NBT_MAX = "Max";
+        private static final String NBT_COUNT = "Count";
+        private static final String NBT_FULL = "Full";
+        private static final String NBT_PARTIAL = "Partial";
 
-        private final long[] storage;
+        // batteries with the same capacity, filled in order
         private final long[] maximums;
+        private final int[] counts;
+        // amount of completely filled batteries per bucket
+        private final int[] full;
+        // energy of the next battery after the full ones per bucket
+        private final long[] partial;
         private final BigInteger capacity;
+        private final long passiveDrain;
         private int index;
 
         public PowerStationEnergyBank(List<IBatteryData> batteries) {
-            storage = new long[batteries.size()];
-            maximums = new long[batteries.size()];
-            for (int i = 0; i < batteries.size(); i++) {
-                maximums[i] = batteries.get(i).getCapacity();
+            Long2IntLinkedOpenHashMap buckets = new Long2IntLinkedOpenHashMap();
+            for (IBatteryData battery : batteries) {
+                buckets.addTo(battery.getCapacity(), 1);
             }
-            capacity = summarize(maximums);
+            this.maximums = buckets.keySet().toLongArray();
+            this.counts = buckets.values().toIntArray();
+            this.full = new int[maximums.length];
+            this.partial = new long[maximums.length];
+            this.capacity = summarize(maximums, counts);
+            this.passiveDrain = calculatePassiveDrain();
         }
 
         public PowerStationEnergyBank(NBTTagCompound storageTag) {
-            int size = storageTag.getInteger(NBT_SIZE);
-            storage = new long[size];
-            maximums = new long[size];
-            for (int i = 0; i < size; i++) {
-                NBTTagCompound subtag = storageTag.getCompoundTag(String.valueOf(i));
-                if (subtag.hasKey(NBT_STORED)) {
-                    storage[i] = subtag.getLong(NBT_STORED);
+            if (storageTag.hasKey(NBT_SIZE)) {
+                // legacy format, one tag per battery
+                int size = storageTag.getInteger(NBT_SIZE);
+                Long2IntLinkedOpenHashMap buckets = new Long2IntLinkedOpenHashMap();
+                long[] stored = new long[size];
+                for (int i = 0; i < size; i++) {
+                    NBTTagCompound subtag = storageTag.getCompoundTag(String.valueOf(i));
+                    stored[i] = subtag.getLong(NBT_STORED);
+                    buckets.addTo(subtag.getLong(NBT_MAX), 1);
+                }
+                this.maximums = buckets.keySet().toLongArray();
+                this.counts = buckets.values().toIntArray();
+                this.full = new int[maximums.length];
+                this.partial = new long[maximums.length];
+                for (long amount : stored) {
+                    fill(amount);
+                }
+            } else {
+                this.maximums = ((NBTTagLongArray) storageTag.getTag(NBT_MAX)).data;
+                this.counts = storageTag.getIntArray(NBT_COUNT);
+                this.full = storageTag.getIntArray(NBT_FULL);
+                this.partial = ((NBTTagLongArray) storageTag.getTag(NBT_PARTIAL)).data;
+                while (index < maximums.length - 1 && full[index] == counts[index]) {
+                    index++;
                 }
-                maximums[i] = subtag.getLong(NBT_MAX);
             }
-            capacity = summarize(maximums);
+            this.capacity = summarize(maximums, counts);
+            this.passiveDrain = calculatePassiveDrain();
         }
 
         private NBTTagCompound writeToNBT(NBTTagCompound compound) {
-            compound.setInteger(NBT_SIZE, storage.length);
-            for (int i = 0; i < storage.length; i++) {
-                NBTTagCompound subtag = new NBTTagCompound();
-                if (storage[i] > 0) {
-                    subtag.setLong(NBT_STORED, storage[i]);
-                }
-                subtag.setLong(NBT_MAX, maximums[i]);
-                compound.setTag(String.valueOf(i), subtag);
-            }
+            compound.setTag(NBT_MAX, new NBTTagLongArray(maximums.clone()));
+            compound.setIntArray(NBT_COUNT, counts.clone());
+            compound.setIntArray(NBT_FULL, full.clone());
+            compound.setTag(NBT_PARTIAL, new NBTTagLongArray(partial.clone()));
             return compound;
         }
 
@@ -642,8 +669,15 @@ public class MetaTileEntityPowerSubstation extends MultiblockWithDisplayBase
                 throw new IllegalArgumentException("Cannot rebuild Power Substation power bank with no batteries!");
             }
             PowerStationEnergyBank newStorage = new PowerStationEnergyBank(batteries);
-            for (long stored : storage) {
-                newStorage.fill(stored);
+            for (int i = 0; i < maximums.length; i++) {
+                // fill as many full batteries at once as possible without overflowing
+                long perFill = Long.MAX_VALUE / maximums[i];
+                for (long remaining = full[i]; remaining > 0;) {
+                    long amount = Math.min(remaining, perFill);
+                    newStorage.fill(amount * maximums[i]);
+                    remaining -= amount;
+                }
+                newStorage.fill(partial[i]);
             }
             return newStorage;
         }
@@ -651,62 +685,72 @@ public class MetaTileEntityPowerSubstation extends MultiblockWithDisplayBase
         /** @return Amount filled into storage */
         public long fill(long amount) {
             if (amount < 0) throw new IllegalArgumentException("Amount cannot be negative!");
-
-            // ensure index
-            if (index != storage.length - 1 && storage[index] == maximums[index]) {
+            long filled = 0;
+            while (true) {
+                filled += fillBucket(index, amount - filled);
+                if (filled == amount || index == maximums.length - 1) {
+                    return filled;
+                }
+                // this bucket is full, continue with the next one
                 index++;
             }
-
-            long maxFill = Math.min(maximums[index] - storage[index], amount);
-
-            // storage is completely full
-            if (maxFill == 0 && index == storage.length - 1) {
-                return 0;
-            }
-
-            // fill this "battery" as much as possible
-            storage[index] += maxFill;
-            amount -= maxFill;
-
-            // try to fill other "batteries" if necessary
-            if (amount > 0 && index != storage.length - 1) {
-                return maxFill + fill(amount);
-            }
-
-            // other fill not necessary, either because the storage is now completely full,
-            // or we were able to consume all the energy in this "battery"
-            return maxFill;
         }
 
         /** @return Amount drained from storage */
         public long drain(long amount) {
             if (amount < 0) throw new IllegalArgumentException("Amount cannot be negative!");
-
-            // ensure index
-            if (index != 0 && storage[index] == 0) {
+            long drained = 0;
+            while (true) {
+                drained += drainBucket(index, amount - drained);
+                if (drained == amount || index == 0) {
+                    return drained;
+                }
+                // this bucket is empty, continue with the previous one
                 index--;
             }
+        }
 
-            long maxDrain = Math.min(storage[index], amount);
-
-            // storage is completely empty
-            if (maxDrain == 0 && index == 0) {
-                return 0;
+        private long fillBucket(int i, long amount) {
+            long max = maximums[i];
+            if (max <= 0 || full[i] == counts[i]) return 0;
+            // top up the partially filled battery first
+            long space = max - partial[i];
+            if (amount < space) {
+                partial[i] += amount;
+                return amount;
             }
-
-            // drain this "battery" as much as possible
-            storage[index] -= maxDrain;
-            amount -= maxDrain;
-
-            // try to drain other "batteries" if necessary
-            if (amount > 0 && index != 0) {
-                index--;
-                return maxDrain + drain(amount);
+            long filled = space;
+            partial[i] = 0;
+            full[i]++;
+            // then fill whole batteries
+            long batteries = Math.min((amount - filled) / max, counts[i] - full[i]);
+            full[i] += (int) batteries;
+            filled += batteries * max;
+            if (full[i] < counts[i]) {
+                // the rest is less than one battery
+                partial[i] = amount - filled;
+                filled = amount;
             }
+            return filled;
+        }
 
-            // other drain not necessary, either because the storage is now completely empty,
-            // or we were able to drain all the energy from this "battery"
-            return maxDrain;
+        private long drainBucket(int i, long amount) {
+            long max = maximums[i];
+            // take from the partially filled battery first
+            long drained = Math.min(partial[i], amount);
+            partial[i] -= drained;
+            if (drained == amount || max <= 0) return drained;
+            // then drain whole batteries
+            long batteries = Math.min((amount - drained) / max, full[i]);
+            full[i] -= (int) batteries;
+            drained += batteries * max;
+            if (drained < amount && full[i] > 0) {
+                // the rest is less than one battery
+                full[i]--;
+                partial[i] = max - (amount - drained);
+                drained = amount;
+            }
+            return drained;
         }
 
         public BigInteger getCapacity() {
@@ -714,20 +758,33 @@ public class MetaTileEntityPowerSubstation extends MultiblockWithDisplayBase
         }
 
         public BigInteger getStored() {
-            return summarize(storage);
+            return summarize(maximums, full).add(summarize(partial, null));
         }
 
         public boolean hasEnergy() {
-            for (long l : storage) {
-                if (l > 0) return true;
+            for (int i = 0; i < maximums.length; i++) {
+                if (full[i] > 0 || partial[i] > 0) return true;
             }
             return false;
         }
 
-        private static BigInteger summarize(long[] values) {
+        /**
+         * @param values     the values to sum up
+         * @param multipliers how often each value is counted, or null to count each value once
+         */
+        private static BigInteger summarize(long[] values, int[] multipliers) {
             BigInteger retVal = BigInteger.ZERO;
             long currentSum = 0;
-            for (long value : values) {
+            for (int i = 0; i < values.length; i++) {
+                long value = values[i];
+                int multiplier = multipliers == null ? 1 : multipliers[i];
+                if (multiplier != 1) {
+                    if (multiplier != 0 && value > Long.MAX_VALUE / multiplier) {
+                        retVal = retVal.add(BigInteger.valueOf(value).multiply(BigInteger.valueOf(multiplier)));
+                        continue;
+                    }
+                    value *= multiplier;
+                }
                 if (currentSum != 0 && value > Long.MAX_VALUE - currentSum) {
                     // will overflow if added
                     retVal = retVal.add(BigInteger.valueOf(currentSum));
@@ -743,18 +800,22 @@ public class MetaTileEntityPowerSubstation extends MultiblockWithDisplayBase
 
         @VisibleForTesting
         public long getPassiveDrainPerTick() {
+            return passiveDrain;
+        }
+
+        private long calculatePassiveDrain() {
             long[] maximumsExcl = new long[maximums.length];
-            int index = 0;
-            int numExcl = 0;
-            for (long maximum : maximums) {
-                if (maximum / PASSIVE_DRAIN_DIVISOR >= PASSIVE_DRAIN_MAX_PER_STORAGE) {
-                    numExcl++;
+            int[] countsExcl = new int[maximums.length];
+            long numExcl = 0;
+            for (int i = 0; i < maximums.length; i++) {
+                if (maximums[i] / PASSIVE_DRAIN_DIVISOR >= PASSIVE_DRAIN_MAX_PER_STORAGE) {
+                    numExcl += counts[i];
                 } else {
-                    maximumsExcl[index++] = maximum;
+                    maximumsExcl[i] = maximums[i];
+                    countsExcl[i] = counts[i];
                 }
             }
-            maximumsExcl = Arrays.copyOf(maximumsExcl, index);
-            BigInteger capacityExcl = summarize(maximumsExcl);
+            BigInteger capacityExcl = summarize(maximumsExcl, countsExcl);
 
             return capacityExcl.divide(BigInteger.valueOf(PASSIVE_DRAIN_DIVISOR))
                     .add(BigInteger.valueOf(PASSIVE_DRAIN_MAX_PER_STORAGE * numExcl))
@@ -287,6 +287,12 @@ public class MetaTileEntityProcessingArray extends RecipeMapMultiblockController
             return canWorkWithMachines() && super.shouldSearchForRecipes();
         }
 
+        @Override
+        protected boolean isLaneMode() {
+            // the parallel limit is set by the machines in the hatch, which cannot be split between buses
+            return false;
+        }
+
         public boolean canWorkWithMachines() {
             if (machineChanged) {
                 findMachineStack();
@@ -0,0 +1,115 @@
+package gregtech.common.metatileentities.multi.multiblockpart.appeng;
+
+import gregtech.api.metatileentity.MetaTileEntity;
+
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.IBaseMonitor;
+import appeng.api.storage.IMEMonitor;
+import appeng.api.storage.IMEMonitorHandlerReceiver;
+import appeng.api.storage.data.IAEStack;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+
+/**
+ * Listens to the storage changes of an ME network for an ME Hatch/Bus, so it only interacts with the network when
+ * something it waits for may have changed.
+ * <p>
+ * Stacks which could not be extracted completely are watched until the network reports a change of them. Changes
+ * are collected between two syncs, and reset by {@link #endSync()}.
+ */
+public class MEStorageWatcher<T extends IAEStack<T>> implements IMEMonitorHandlerReceiver<T> {
+
+    private final MetaTileEntity owner;
+    private Set<T> watched = new ObjectOpenHashSet<>();
+    private Set<T> nextWatched = new ObjectOpenHashSet<>();
+    private final Set<T> changed = new ObjectOpenHashSet<>();
+    private IMEMonitor<T> monitor;
+    private boolean anyChange = true;
+    private boolean listChanged = true;
+
+    public MEStorageWatcher(@NotNull MetaTileEntity owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * @param monitor the monitor of the network to listen to, or null to stop listening
+     */
+    public void setMonitor(@Nullable IMEMonitor<T> monitor) {
+        if (this.monitor == monitor) return;
+        if (this.monitor != null) {
+            this.monitor.removeListener(this);
+        }
+        this.monitor = monitor;
+        if (monitor != null) {
+            monitor.addListener(this, monitor);
+        }
+        this.listChanged = true;
+        this.anyChange = true;
+    }
+
+    /**
+     * @param stack the stack to extract
+     * @return if the stack should be requested from the network, or if the last request did not change anything yet
+     */
+    public boolean shouldRequest(@NotNull T stack) {
+        if (listChanged || !watched.contains(stack) || changed.contains(stack)) {
+            return true;
+        }
+        nextWatched.add(stack);
+        return false;
+    }
+
+    /**
+     * @param stack   the stack which was requested
+     * @param starved if less than the requested amount could be extracted
+     */
+    public void onRequested(@NotNull T stack, boolean starved) {
+        if (starved) {
+            nextWatched.add(stack);
+        }
+    }
+
+    /**
+     * @return if the network reported any storage change since the last sync
+     */
+    public boolean hasAnyChange() {
+        return anyChange || listChanged;
+    }
+
+    /**
+     * Forgets the collected changes. Stacks which were not requested during the sync are no longer watched.
+     */
+    public void endSync() {
+        Set<T> swap = this.watched;
+        this.watched = nextWatched;
+        this.nextWatched = swap;
+        nextWatched.clear();
+        changed.clear();
+        this.anyChange = false;
+        this.listChanged = false;
+    }
+
+    @Override
+    public boolean isValid(Object verificationToken) {
+        return verificationToken == monitor && owner.isValid();
+    }
+
+    @Override
+    public void postChange(IBaseMonitor<T> monitor, Iterable<T> change, IActionSource actionSource) {
+        this.anyChange = true;
+        if (watched.isEmpty()) return;
+        for (T stack : change) {
+            if (watched.contains(stack)) {
+                changed.add(stack.copy());
+            }
+        }
+    }
+
+    @Override
+    public void onListUpdate() {
+        this.listChanged = true;
+    }
+}
@@ -175,12 +175,11 @@ public abstract class MetaTileEntityAEHostablePart extends MetaTileEntityMultibl
      * @return the updated status.
      */
     public boolean updateMEStatus() {
-        if (this.aeProxy != null) {
-            this.isOnline = this.aeProxy.isActive() && this.aeProxy.isPowered();
-        } else {
-            this.isOnline = false;
+        boolean online = this.aeProxy != null && this.aeProxy.isActive() && this.aeProxy.isPowered();
+        if (this.isOnline != online) {
+            this.isOnline = online;
+            writeCustomData(ONLINE_ID, buf -> buf.writeBoolean(online));
         }
-        writeCustomData(ONLINE_ID, buf -> buf.writeBoolean(this.isOnline));
         return this.isOnline;
     }
 
@@ -188,6 +187,13 @@ public abstract class MetaTileEntityAEHostablePart extends MetaTileEntityMultibl
         return this.meUpdateTick % ME_UPDATE_INTERVAL == 0;
     }
 
+    /**
+     * @return if the ME network should only be interacted with when a {@link MEStorageWatcher} reports a change
+     */
+    protected boolean isEventDrivenSync() {
+        return ConfigHolder.compat.ae2.eventDrivenSync;
+    }
+
     protected IActionSource getActionSource() {
         if (this.getHolder() instanceof IActionHost) {
             return new MachineSource((IActionHost) this.getHolder());
@@ -53,6 +53,7 @@ public class MetaTileEntityMEInputBus extends MetaTileEntityAEHostablePart
     private final static int CONFIG_SIZE = 16;
     private boolean workingEnabled;
     private ExportOnlyAEItemList aeItemHandler;
+    private final MEStorageWatcher<IAEItemStack> storageWatcher = new MEStorageWatcher<>(this);
 
     public MetaTileEntityMEInputBus(ResourceLocation metaTileEntityId) {
         super(metaTileEntityId, GTValues.UHV, false);
@@ -81,6 +82,8 @@ public class MetaTileEntityMEInputBus extends MetaTileEntityAEHostablePart
             if (this.updateMEStatus()) {
                 try {
                     IMEMonitor<IAEItemStack> aeNetwork = this.getProxy().getStorage().getInventory(ITEM_NET);
+                    boolean eventDriven = this.isEventDrivenSync();
+                    this.storageWatcher.setMonitor(eventDriven ? aeNetwork : null);
                     for (ExportOnlyAEItem aeSlot : this.aeItemHandler.inventory) {
                         // Try to clear the wrong item
                         IAEItemStack exceedItem = aeSlot.exceedStack();
@@ -97,14 +100,17 @@ public class MetaTileEntityMEInputBus extends MetaTileEntityAEHostablePart
                         }
                         // Fill it
                         IAEItemStack reqItem = aeSlot.requestStack();
-                        if (reqItem != null) {
+                        if (reqItem != null && (!eventDriven || this.storageWatcher.shouldRequest(reqItem))) {
                             IAEItemStack extracted = aeNetwork.extractItems(reqItem, Actionable.MODULATE,
                                     this.getActionSource());
                             if (extracted != null) {
                                 aeSlot.addStack(extracted);
                             }
+                            this.storageWatcher.onRequested(reqItem,
+                                    extracted == null || extracted.getStackSize() < reqItem.getStackSize());
                         }
                     }
+                    this.storageWatcher.endSync();
                 } catch (GridAccessException ignore) {}
             }
         }
@@ -112,6 +118,7 @@ public class MetaTileEntityMEInputBus extends MetaTileEntityAEHostablePart
 
     @Override
     public void onRemoval() {
+        this.storageWatcher.setMonitor(null);
         try {
             IMEMonitor<IAEItemStack> aeNetwork = this.getProxy().getStorage().getInventory(ITEM_NET);
             for (ExportOnlyAEItem aeSlot : this.aeItemHandler.inventory) {
@@ -60,6 +60,7 @@ public class MetaTileEntityMEInputHatch extends MetaTileEntityAEHostablePart
     private final static int CONFIG_SIZE = 16;
     private boolean workingEnabled;
     private ExportOnlyAEFluid[] aeFluidTanks;
+    private final MEStorageWatcher<IAEFluidStack> storageWatcher = new MEStorageWatcher<>(this);
 
     public MetaTileEntityMEInputHatch(ResourceLocation metaTileEntityId) {
         super(metaTileEntityId, GTValues.UHV, false);
@@ -87,6 +88,8 @@ public class MetaTileEntityMEInputHatch extends MetaTileEntityAEHostablePart
             if (this.updateMEStatus()) {
                 try {
                     IMEMonitor<IAEFluidStack> aeNetwork = this.getProxy().getStorage().getInventory(FLUID_NET);
+                    boolean eventDriven = this.isEventDrivenSync();
+                    this.storageWatcher.setMonitor(eventDriven ? aeNetwork : null);
                     for (ExportOnlyAEFluid aeTank : this.aeFluidTanks) {
                         // Try to clear the wrong fluid
                         IAEFluidStack exceedFluid = aeTank.exceedStack();
@@ -103,14 +106,17 @@ public class MetaTileEntityMEInputHatch extends MetaTileEntityAEHostablePart
                         }
                         // Fill it
                         IAEFluidStack reqFluid = aeTank.requestStack();
-                        if (reqFluid != null) {
+                        if (reqFluid != null && (!eventDriven || this.storageWatcher.shouldRequest(reqFluid))) {
                             IAEFluidStack extracted = aeNetwork.extractItems(reqFluid, Actionable.MODULATE,
                                     this.getActionSource());
                             if (extracted != null) {
                                 aeTank.addStack(extracted);
                             }
+                            this.storageWatcher.onRequested(reqFluid,
+                                    extracted == null || extracted.getStackSize() < reqFluid.getStackSize());
                         }
                     }
+                    this.storageWatcher.endSync();
                 } catch (GridAccessException ignore) {}
             }
         }
@@ -118,6 +124,7 @@ public class MetaTileEntityMEInputHatch extends MetaTileEntityAEHostablePart
 
     @Override
     public void onRemoval() {
+        this.storageWatcher.setMonitor(null);
         try {
             IMEMonitor<IAEFluidStack> aeNetwork = this.getProxy().getStorage().getInventory(FLUID_NET);
             for (ExportOnlyAEFluid aeTank : this.aeFluidTanks) {
@@ -55,6 +55,8 @@ public class MetaTileEntityMEOutputBus extends MetaTileEntityAEHostablePart
     public final static String WORKING_TAG = "WorkingEnabled";
     private boolean workingEnabled;
     private SerializableItemList internalBuffer;
+    private final MEStorageWatcher<IAEItemStack> storageWatcher = new MEStorageWatcher<>(this);
+    private long lastBufferedAmount = -1;
 
     public MetaTileEntityMEOutputBus(ResourceLocation metaTileEntityId) {
         super(metaTileEntityId, GTValues.UHV, true);
@@ -75,6 +77,13 @@ public class MetaTileEntityMEOutputBus extends MetaTileEntityAEHostablePart
                 if (!this.internalBuffer.isEmpty()) {
                     try {
                         IMEMonitor<IAEItemStack> aeNetwork = this.getProxy().getStorage().getInventory(ITEM_NET);
+                        boolean eventDriven = this.isEventDrivenSync();
+                        this.storageWatcher.setMonitor(eventDriven ? aeNetwork : null);
+                        // a buffer the network did not accept before is only flushed again once something changed
+                        if (eventDriven && !this.storageWatcher.hasAnyChange() &&
+                                getBufferedAmount() == this.lastBufferedAmount) {
+                            return;
+                        }
                         for (IAEItemStack item : this.internalBuffer) {
                             IAEItemStack notInserted = aeNetwork.injectItems(item.copy(), Actionable.MODULATE,
                                     this.getActionSource());
@@ -84,14 +93,25 @@ public class MetaTileEntityMEOutputBus extends MetaTileEntityAEHostablePart
                                 item.reset();
                             }
                         }
+                        this.storageWatcher.endSync();
+                        this.lastBufferedAmount = getBufferedAmount();
                     } catch (GridAccessException ignore) {}
                 }
             }
         }
     }
 
+    private long getBufferedAmount() {
+        long amount = 0;
+        for (IAEItemStack item : this.internalBuffer) {
+            amount += item.getStackSize();
+        }
+        return amount;
+    }
+
     @Override
     public void onRemoval() {
+        this.storageWatcher.setMonitor(null);
         try {
             IMEMonitor<IAEItemStack> aeNetwork = this.getProxy().getStorage().getInventory(ITEM_NET);
             for (IAEItemStack item : this.internalBuffer) {
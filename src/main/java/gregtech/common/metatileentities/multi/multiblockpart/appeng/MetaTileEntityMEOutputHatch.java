@@ -57,6 +57,8 @@ public class MetaTileEntityMEOutputHatch extends MetaTileEntityAEHostablePart
     public final static String WORKING_TAG = "WorkingEnabled";
     private boolean workingEnabled;
     private SerializableFluidList internalBuffer;
+    private final MEStorageWatcher<IAEFluidStack> storageWatcher = new MEStorageWatcher<>(this);
+    private long lastBufferedAmount = -1;
 
     public MetaTileEntityMEOutputHatch(ResourceLocation metaTileEntityId) {
         super(metaTileEntityId, GTValues.UHV, true);
@@ -77,6 +79,13 @@ public class MetaTileEntityMEOutputHatch extends MetaTileEntityAEHostablePart
                 if (!this.internalBuffer.isEmpty()) {
                     try {
                         IMEMonitor<IAEFluidStack> aeNetwork = this.getProxy().getStorage().getInventory(FLUID_NET);
+                        boolean eventDriven = this.isEventDrivenSync();
+                        this.storageWatcher.setMonitor(eventDriven ? aeNetwork : null);
+                        // a buffer the network did not accept before is only flushed again once something changed
+                        if (eventDriven && !this.storageWatcher.hasAnyChange() &&
+                                getBufferedAmount() == this.lastBufferedAmount) {
+                            return;
+                        }
                         for (IAEFluidStack fluid : this.internalBuffer) {
                             IAEFluidStack notInserted = aeNetwork.injectItems(fluid.copy(), Actionable.MODULATE,
                                     this.getActionSource());
@@ -86,14 +95,25 @@ public class MetaTileEntityMEOutputHatch extends MetaTileEntityAEHostablePart
                                 fluid.reset();
                             }
                         }
+                        this.storageWatcher.endSync();
+                        this.lastBufferedAmount = getBufferedAmount();
                     } catch (GridAccessException ignore) {}
                 }
             }
         }
     }
 
+    private long getBufferedAmount() {
+        long amount = 0;
+        for (IAEFluidStack fluid : this.internalBuffer) {
+            amount += fluid.getStackSize();
+        }
+        return amount;
+    }
+
     @Override
     public void onRemoval() {
+        this.storageWatcher.setMonitor(null);
         try {
             IMEMonitor<IAEFluidStack> aeNetwork = this.getProxy().getStorage().getInventory(FLUID_NET);
             for (IAEFluidStack fluid : this.internalBuffer) {
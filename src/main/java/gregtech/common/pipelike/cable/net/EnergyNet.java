@@ -1,16 +1,26 @@
 package gregtech.common.pipelike.cable.net;
 
+import gregtech.api.capability.GregtechCapabilities;
 import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.WireProperties;
+import gregtech.common.pipelike.cable.tile.TileEntityCable;
 
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -18,11 +28,30 @@ import java.util.Map;
 
 public class EnergyNet extends PipeNet<WireProperties> {
 
+    /**
+     * The maximum amount of outdated route lists walked again per tick. Outdated routes stay usable until then, so a
+     * change next to a large net does not make every source walk it in the same tick.
+     */
+    private static final int MAX_REFRESHES_PER_TICK = 4;
+
     private long lastEnergyFluxPerSec;
     private long energyFluxPerSec;
     private long lastTime;
 
     private final Map<BlockPos, List<EnergyRoutePath>> NET_DATA = new Object2ObjectOpenHashMap<>();
+    // the sources with cached routes passing through or ending at a position
+    private final Long2ObjectMap<LongSet> sourcesByPos = new Long2ObjectOpenHashMap<>();
+    // the positions each source is indexed at, so its index entries can be removed again
+    private final Long2ObjectMap<LongSet> positionsBySource = new Long2ObjectOpenHashMap<>();
+    // the sources with cached routes which may be missing new destinations
+    private final LongSet outdatedSources = new LongOpenHashSet();
+    private long refreshTime;
+    private int refreshes;
+
+    private long routeCacheHits;
+    private long routeCacheMisses;
+    private long routeWalks;
+    private long routeWalkNanos;
 
     protected EnergyNet(WorldPipeNet<WireProperties, EnergyNet> world) {
         super(world);
@@ -30,16 +59,181 @@ public class EnergyNet extends PipeNet<WireProperties> {
 
     public List<EnergyRoutePath> getNetData(BlockPos pipePos) {
         List<EnergyRoutePath> data = NET_DATA.get(pipePos);
-        if (data == null) {
-            data = EnergyNetWalker.createNetData(getWorldData(), pipePos);
-            if (data == null) {
-                // walker failed, don't cache so it tries again on next insertion
-                return Collections.emptyList();
+        if (data != null && hasInvalidTarget(data)) {
+            // a destination cable was replaced without the net noticing
+            dropSource(pipePos.toLong());
+            data = null;
+        }
+        if (data != null && (!outdatedSources.contains(pipePos.toLong()) || !canRefresh())) {
+            routeCacheHits++;
+            return data;
+        }
+        routeCacheMisses++;
+
+        long start = System.nanoTime();
+        List<EnergyRoutePath> walked = EnergyNetWalker.createNetData(getWorldData(), pipePos);
+        routeWalkNanos += System.nanoTime() - start;
+        routeWalks++;
+        if (walked == null) {
+            // walker failed, don't cache so it tries again on next insertion
+            return data == null ? Collections.emptyList() : data;
+        }
+        walked.sort(Comparator.comparingInt(EnergyRoutePath::getDistance));
+        NET_DATA.put(pipePos, walked);
+        outdatedSources.remove(pipePos.toLong());
+        indexRoutes(pipePos.toLong(), walked);
+        return walked;
+    }
+
+    private boolean canRefresh() {
+        long time = getWorldData().getTotalWorldTime();
+        if (time != refreshTime) {
+            this.refreshTime = time;
+            this.refreshes = 0;
+        }
+        if (refreshes >= MAX_REFRESHES_PER_TICK) return false;
+        refreshes++;
+        return true;
+    }
+
+    private static boolean hasInvalidTarget(List<EnergyRoutePath> routes) {
+        for (EnergyRoutePath route : routes) {
+            if (route.getTargetPipe().isInvalid()) return true;
+        }
+        return false;
+    }
+
+    private void indexRoutes(long source, List<EnergyRoutePath> routes) {
+        removeFromIndex(source);
+        addToIndex(source, source);
+        for (EnergyRoutePath route : routes) {
+            for (TileEntityCable cable : route.getPath()) {
+                addToIndex(cable.getPipePos().toLong(), source);
+            }
+            addToIndex(route.getTargetPipePos().offset(route.getTargetFacing()).toLong(), source);
+        }
+    }
+
+    private void addToIndex(long pos, long source) {
+        LongSet sources = sourcesByPos.get(pos);
+        if (sources == null) {
+            sources = new LongOpenHashSet();
+            sourcesByPos.put(pos, sources);
+        }
+        sources.add(source);
+        LongSet positions = positionsBySource.get(source);
+        if (positions == null) {
+            positions = new LongOpenHashSet();
+            positionsBySource.put(source, positions);
+        }
+        positions.add(pos);
+    }
+
+    /**
+     * Removes all index entries of a source
+     */
+    private void removeFromIndex(long source) {
+        LongSet positions = positionsBySource.remove(source);
+        if (positions == null) return;
+        LongIterator iterator = positions.iterator();
+        while (iterator.hasNext()) {
+            long pos = iterator.nextLong();
+            LongSet sources = sourcesByPos.get(pos);
+            if (sources != null && sources.remove(source) && sources.isEmpty()) {
+                sourcesByPos.remove(pos);
+            }
+        }
+    }
+
+    /**
+     * Forgets the cached routes of a source
+     */
+    private void dropSource(long source) {
+        NET_DATA.remove(BlockPos.fromLong(source));
+        outdatedSources.remove(source);
+        removeFromIndex(source);
+    }
+
+    /**
+     * Drops the cached routes which pass through or end at a position, and marks their sources as outdated.
+     */
+    private void invalidateRoutes(BlockPos pos) {
+        LongSet sources = sourcesByPos.remove(pos.toLong());
+        if (sources == null) return;
+        LongIterator iterator = sources.iterator();
+        while (iterator.hasNext()) {
+            long source = iterator.nextLong();
+            LongSet positions = positionsBySource.get(source);
+            if (positions != null) positions.remove(pos.toLong());
+            BlockPos sourcePos = BlockPos.fromLong(source);
+            List<EnergyRoutePath> routes = NET_DATA.get(sourcePos);
+            if (routes == null) continue;
+            // replace the list instead of modifying it, as it may currently be iterated
+            List<EnergyRoutePath> remaining = new ArrayList<>(routes.size());
+            for (EnergyRoutePath route : routes) {
+                if (!isRouteAt(route, pos)) {
+                    remaining.add(route);
+                }
+            }
+            NET_DATA.put(sourcePos, remaining);
+            outdatedSources.add(source);
+        }
+    }
+
+    private static boolean isRouteAt(EnergyRoutePath route, BlockPos pos) {
+        BlockPos targetPos = route.getTargetPipePos();
+        if (targetPos.offset(route.getTargetFacing()).equals(pos)) return true;
+        for (TileEntityCable cable : route.getPath()) {
+            if (cable.getPipePos().equals(pos)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks all cached routes as outdated, so they are walked again over the next ticks.
+     */
+    private void markRoutesOutdated() {
+        for (BlockPos source : NET_DATA.keySet()) {
+            outdatedSources.add(source.toLong());
+        }
+    }
+
+    private void clearRoutes() {
+        NET_DATA.clear();
+        sourcesByPos.clear();
+        positionsBySource.clear();
+        outdatedSources.clear();
+    }
+
+    /**
+     * @return if an energy container at the position may accept energy from this net
+     */
+    private boolean isDestination(BlockPos pos) {
+        TileEntity tile = getWorldData().getTileEntity(pos);
+        if (tile == null) return false;
+        for (EnumFacing facing : EnumFacing.VALUES) {
+            if (containsNode(pos.offset(facing)) &&
+                    tile.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, facing) != null) {
+                return true;
             }
-            data.sort(Comparator.comparingInt(EnergyRoutePath::getDistance));
-            NET_DATA.put(pipePos, data);
         }
-        return data;
+        return false;
+    }
+
+    public long getRouteCacheHits() {
+        return routeCacheHits;
+    }
+
+    public long getRouteCacheMisses() {
+        return routeCacheMisses;
+    }
+
+    public long getRouteWalks() {
+        return routeWalks;
+    }
+
+    public long getRouteWalkNanos() {
+        return routeWalkNanos;
     }
 
     public long getEnergyFluxPerSec() {
@@ -60,27 +254,58 @@ public class EnergyNet extends PipeNet<WireProperties> {
         energyFluxPerSec = 0;
     }
 
+    @Override
+    protected void onNodeConnectionsUpdate() {
+        super.onNodeConnectionsUpdate();
+        // added cables may lead to new destinations
+        markRoutesOutdated();
+    }
+
+    @Override
+    protected Node<WireProperties> removeNodeWithoutRebuilding(BlockPos nodePos) {
+        Node<WireProperties> node = super.removeNodeWithoutRebuilding(nodePos);
+        // the removed cable is no longer a source, and routes through it are gone
+        dropSource(nodePos.toLong());
+        invalidateRoutes(nodePos);
+        return node;
+    }
+
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
-        NET_DATA.clear();
+        if (containsNode(fromPos)) return;
+        invalidateRoutes(fromPos);
+        if (isDestination(fromPos)) {
+            markRoutesOutdated();
+        }
     }
 
     @Override
     public void onPipeConnectionsUpdate() {
-        NET_DATA.clear();
+        markRoutesOutdated();
+    }
+
+    @Override
+    public void onPipeConnectionsUpdate(BlockPos pipePos) {
+        invalidateRoutes(pipePos);
+        markRoutesOutdated();
     }
 
     @Override
     public void onChunkUnload() {
-        NET_DATA.clear();
+        markRoutesOutdated();
+    }
+
+    @Override
+    public void onChunkUnload(BlockPos pipePos) {
+        invalidateRoutes(pipePos);
     }
 
     @Override
     protected void transferNodeData(Map<BlockPos, Node<WireProperties>> transferredNodes,
                                     PipeNet<WireProperties> parentNet) {
         super.transferNodeData(transferredNodes, parentNet);
-        NET_DATA.clear();
-        ((EnergyNet) parentNet).NET_DATA.clear();
+        clearRoutes();
+        ((EnergyNet) parentNet).clearRoutes();
     }
 
     @Override
@@ -358,6 +358,20 @@ public class TileEntityCable extends TileEntityMaterialPipeBase<Insulation, Wire
         list.add(new TextComponentTranslation("behavior.tricorder.amp_per_sec",
                 new TextComponentTranslation(TextFormattingUtil.formatNumbers(this.getAverageAmperage()))
                         .setStyle(new Style().setColor(TextFormatting.RED))));
+        EnergyNet net = getEnergyNet();
+        if (net != null) {
+            long lookups = net.getRouteCacheHits() + net.getRouteCacheMisses();
+            double hitRate = lookups == 0 ? 0 : net.getRouteCacheHits() * 100.0 / lookups;
+            list.add(new TextComponentTranslation("behavior.tricorder.route_cache_hit_rate",
+                    new TextComponentTranslation(String.format("%.1f", hitRate))
+                            .setStyle(new Style().setColor(TextFormatting.GREEN))));
+            list.add(new TextComponentTranslation("behavior.tricorder.route_walks",
+                    new TextComponentTranslation(TextFormattingUtil.formatNumbers(net.getRouteWalks()))
+                            .setStyle(new Style().setColor(TextFormatting.YELLOW)),
+                    new TextComponentTranslation(
+                            TextFormattingUtil.formatNumbers(net.getRouteWalkNanos() / 1_000_000))
+                                    .setStyle(new Style().setColor(TextFormatting.YELLOW))));
+        }
         return list;
     }
 }
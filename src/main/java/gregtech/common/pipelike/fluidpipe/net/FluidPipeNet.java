@@ -1,17 +1,64 @@
 package gregtech.common.pipelike.fluidpipe.net;
 
+import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.api.unification.material.properties.FluidPipeProperties;
+import gregtech.common.ConfigHolder;
 
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
 
-public class FluidPipeNet extends PipeNet<FluidPipeProperties> {
+import java.util.Map;
+
+public class FluidPipeNet extends PipeNet<FluidPipeProperties> implements ITickable {
+
+    private final FluidPipeNetSolver solver = new FluidPipeNetSolver(this);
 
     public FluidPipeNet(WorldPipeNet<FluidPipeProperties, FluidPipeNet> world) {
         super(world);
     }
 
+    @Override
+    public void update() {
+        if (ConfigHolder.machines.fluidPipeNetSolver) {
+            solver.update();
+        }
+    }
+
+    public FluidPipeNetSolver getSolver() {
+        return solver;
+    }
+
+    @Override
+    protected void onNodeConnectionsUpdate() {
+        super.onNodeConnectionsUpdate();
+        solver.invalidate();
+    }
+
+    @Override
+    public void onPipeConnectionsUpdate() {
+        solver.invalidate();
+    }
+
+    @Override
+    public void onNeighbourUpdate(BlockPos fromPos) {
+        solver.invalidate();
+    }
+
+    @Override
+    public void onChunkUnload() {
+        solver.invalidate();
+    }
+
+    @Override
+    protected void transferNodeData(Map<BlockPos, Node<FluidPipeProperties>> transferredNodes,
+                                    PipeNet<FluidPipeProperties> parentNet) {
+        super.transferNodeData(transferredNodes, parentNet);
+        ((FluidPipeNet) parentNet).solver.invalidate();
+    }
+
     @Override
     protected void writeNodeData(FluidPipeProperties nodeData, NBTTagCompound tagCompound) {
         tagCompound.setInteger("max_temperature", nodeData.getMaxFluidTemperature());
@@ -0,0 +1,321 @@
+package gregtech.common.pipelike.fluidpipe.net;
+
+import gregtech.api.GTValues;
+import gregtech.api.pipenet.Node;
+import gregtech.api.unification.material.properties.FluidPipeProperties;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipeTickable;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidTankProperties;
+import net.minecraftforge.fluids.capability.templates.EmptyFluidHandler;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves the fluid of a whole {@link FluidPipeNet} to the fluid handlers around it in one pass per update, instead of
+ * every pipe pushing its fluid one block further.
+ * <p>
+ * The fluid stays in the tanks of the pipes it was inserted into, so it is still saved with the pipes and filled
+ * through {@link PipeTankList}. Per update, the whole net hands out at most half a tank of the narrowest pipe in it
+ * of each fluid, which is the share a single pipe hands out per update.
+ * <p>
+ * The cached pipes are dropped whenever the net changes, a pipe unloads with its chunk or a pipe tile entity is
+ * invalidated, see {@link #invalidate()}.
+ */
+public class FluidPipeNetSolver {
+
+    private final FluidPipeNet net;
+
+    // layout of the net, rebuilt whenever its pipes or their connections change
+    private final List<TileEntityFluidPipeTickable> pipes = new ArrayList<>();
+    private final List<List<TileEntityFluidPipeTickable>> pipesByProperties = new ArrayList<>();
+    private final List<FluidTank> tanks = new ArrayList<>();
+    private final List<TileEntityFluidPipeTickable> outputPipes = new ArrayList<>();
+    private final List<EnumFacing> outputFacings = new ArrayList<>();
+    private int maxTransfer;
+    private boolean dirty = true;
+
+    // reused between updates
+    private final List<FluidStack> fluids = new ArrayList<>();
+    private final NetTank netTank = new NetTank();
+    private IFluidHandler[] targets = new IFluidHandler[8];
+    private IFluidHandler[] sources = new IFluidHandler[8];
+    private int[] amounts = new int[8];
+    private int rotation;
+
+    public FluidPipeNetSolver(@NotNull FluidPipeNet net) {
+        this.net = net;
+    }
+
+    /**
+     * Marks the layout of the net as outdated, so it is collected again on the next update.
+     */
+    public void invalidate() {
+        this.dirty = true;
+    }
+
+    public void update() {
+        World world = net.getWorldData();
+        if (world == null) return;
+        if (dirty) {
+            rebuild(world);
+        }
+        if (outputPipes.isEmpty()) return;
+
+        // collect the total amount of each fluid in the net
+        for (int i = 0; i < tanks.size(); i++) {
+            FluidTank tank = tanks.get(i);
+            FluidStack fluid = tank.getFluid();
+            if (fluid == null) continue;
+            if (fluid.amount <= 0) {
+                tank.setFluid(null);
+                continue;
+            }
+            FluidStack total = findFluid(fluid);
+            if (total == null) {
+                fluids.add(fluid.copy());
+            } else {
+                total.amount += fluid.amount;
+            }
+        }
+
+        this.rotation++;
+        for (int i = 0; i < fluids.size(); i++) {
+            distributeFluid(fluids.get(i));
+            // a destroyed pipe changed the net, the cached pipes are outdated
+            if (dirty) break;
+        }
+        fluids.clear();
+
+        for (int i = 0; i < outputPipes.size(); i++) {
+            outputPipes.get(i).lastReceivedFrom = 0;
+        }
+    }
+
+    @Nullable
+    private FluidStack findFluid(@NotNull FluidStack fluid) {
+        for (int i = 0; i < fluids.size(); i++) {
+            FluidStack stack = fluids.get(i);
+            if (stack.isFluidEqual(fluid)) {
+                return stack;
+            }
+        }
+        return null;
+    }
+
+    private void distributeFluid(@NotNull FluidStack fluid) {
+        final int available = Math.min(fluid.amount, maxTransfer);
+        netTank.setFluid(fluid, available);
+
+        int count = 0;
+        long availableCapacity = 0;
+        FluidStack request = fluid.copy();
+        for (int i = 0, size = outputPipes.size(); i < size; i++) {
+            int index = (i + rotation) % size;
+            TileEntityFluidPipeTickable pipe = outputPipes.get(index);
+            EnumFacing facing = outputFacings.get(index);
+            // do not push fluid back to where it just came from
+            if ((pipe.lastReceivedFrom & (1 << facing.getIndex())) != 0) continue;
+
+            TileEntity neighbor = pipe.getNeighbor(facing);
+            if (neighbor == null) continue;
+            IFluidHandler target = neighbor.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY,
+                    facing.getOpposite());
+            if (target == null) continue;
+            IFluidHandler source = pipe.getOutputTank(facing, neighbor, netTank);
+            if (source == null) continue;
+
+            request.amount = available;
+            FluidStack drainable = source.drain(request, false);
+            if (drainable == null || drainable.amount <= 0) continue;
+
+            int filled = Math.min(target.fill(request, false), drainable.amount);
+            if (filled > 0) {
+                ensureTransactionCapacity(count + 1);
+                targets[count] = target;
+                sources[count] = source;
+                amounts[count] = filled;
+                count++;
+                availableCapacity += filled;
+            }
+        }
+
+        int moved = 0;
+        for (int i = 0; i < count; i++) {
+            int amount = amounts[i];
+            if (availableCapacity > available) {
+                // share the available fluid based on the space at each destination
+                amount = (int) (amount * (double) available / availableCapacity);
+            }
+            if (amount == 0) {
+                // if there is no more stored fluid, stop transferring to prevent dupes
+                if (netTank.getAvailable() <= 0) break;
+                amount = 1;
+            }
+
+            request.amount = amount;
+            int inserted = targets[i].fill(request, true);
+            if (inserted > 0) {
+                FluidStack drained = sources[i].drain(inserted, true);
+                if (drained != null) {
+                    moved += drained.amount;
+                }
+            }
+        }
+        Arrays.fill(targets, 0, count, null);
+        Arrays.fill(sources, 0, count, null);
+
+        if (moved > 0) {
+            checkPipes(fluid, moved);
+        }
+        netTank.setFluid(null, 0);
+    }
+
+    /**
+     * Lets the fluid that flowed through the net damage the pipes which can not carry it, the same way it would when
+     * entering them. One random pipe of each kind is checked per update.
+     */
+    private void checkPipes(@NotNull FluidStack fluid, int moved) {
+        FluidStack flowing = fluid.copy();
+        flowing.amount = moved;
+        for (int i = 0; i < pipesByProperties.size(); i++) {
+            List<TileEntityFluidPipeTickable> group = pipesByProperties.get(i);
+            TileEntityFluidPipeTickable pipe = group.get(GTValues.RNG.nextInt(group.size()));
+            if (!pipe.isInvalid()) {
+                pipe.checkAndDestroy(flowing);
+            }
+        }
+
+        int voided = moved - flowing.amount;
+        if (voided > 0) {
+            netTank.setFluid(fluid, Integer.MAX_VALUE);
+            netTank.drain(voided, true);
+        }
+    }
+
+    private void rebuild(@NotNull World world) {
+        pipes.clear();
+        pipesByProperties.clear();
+        tanks.clear();
+        outputPipes.clear();
+        outputFacings.clear();
+
+        Map<FluidPipeProperties, List<TileEntityFluidPipeTickable>> groups = new Object2ObjectOpenHashMap<>();
+        int minThroughput = Integer.MAX_VALUE;
+        for (Map.Entry<BlockPos, Node<FluidPipeProperties>> entry : net.getAllNodes().entrySet()) {
+            BlockPos pos = entry.getKey();
+            // pipes in unloaded chunks take no part until they are loaded again
+            if (!world.isBlockLoaded(pos)) continue;
+            if (!(world.getTileEntity(pos) instanceof TileEntityFluidPipeTickable pipe)) continue;
+
+            pipes.add(pipe);
+            Collections.addAll(tanks, pipe.getFluidTanks());
+            groups.computeIfAbsent(entry.getValue().data, k -> new ArrayList<>()).add(pipe);
+            minThroughput = Math.min(minThroughput, pipe.getNodeData().getThroughput());
+
+            for (EnumFacing facing : EnumFacing.VALUES) {
+                if (pipe.isConnected(facing) && !net.containsNode(pos.offset(facing))) {
+                    outputPipes.add(pipe);
+                    outputFacings.add(facing);
+                }
+            }
+        }
+        pipesByProperties.addAll(groups.values());
+        this.maxTransfer = pipes.isEmpty() ? 0 : minThroughput * 20 / 2;
+        this.dirty = false;
+    }
+
+    private void ensureTransactionCapacity(int capacity) {
+        if (capacity <= targets.length) return;
+        int length = targets.length * 2;
+        this.targets = Arrays.copyOf(targets, length);
+        this.sources = Arrays.copyOf(sources, length);
+        this.amounts = Arrays.copyOf(amounts, length);
+    }
+
+    /**
+     * Drains a single fluid from all tanks of the net, starting where the previous drain stopped.
+     */
+    private class NetTank implements IFluidHandler {
+
+        private FluidStack fluid;
+        private int available;
+        private int cursor;
+
+        private void setFluid(@Nullable FluidStack fluid, int available) {
+            this.fluid = fluid;
+            this.available = available;
+        }
+
+        private int getAvailable() {
+            return available;
+        }
+
+        @Override
+        public IFluidTankProperties[] getTankProperties() {
+            return EmptyFluidHandler.EMPTY_TANK_PROPERTIES_ARRAY;
+        }
+
+        @Override
+        public int fill(FluidStack resource, boolean doFill) {
+            return 0;
+        }
+
+        @Nullable
+        @Override
+        public FluidStack drain(FluidStack resource, boolean doDrain) {
+            if (fluid == null || resource == null || resource.amount <= 0 || !fluid.isFluidEqual(resource)) {
+                return null;
+            }
+            int toDrain = Math.min(resource.amount, available);
+            if (toDrain <= 0) return null;
+            if (!doDrain) {
+                FluidStack result = fluid.copy();
+                result.amount = toDrain;
+                return result;
+            }
+
+            int drained = 0;
+            for (int i = 0, size = tanks.size(); i < size && drained < toDrain; i++) {
+                int index = (cursor + i) % size;
+                FluidTank tank = tanks.get(index);
+                FluidStack stored = tank.getFluid();
+                if (stored == null || !stored.isFluidEqual(fluid)) continue;
+                FluidStack result = tank.drain(toDrain - drained, true);
+                if (result != null) {
+                    drained += result.amount;
+                }
+                this.cursor = index;
+            }
+            if (drained <= 0) return null;
+            this.available -= drained;
+            FluidStack result = fluid.copy();
+            result.amount = drained;
+            return result;
+        }
+
+        @Nullable
+        @Override
+        public FluidStack drain(int maxDrain, boolean doDrain) {
+            if (fluid == null) return null;
+            FluidStack resource = fluid.copy();
+            resource.amount = maxDrain;
+            return drain(resource, doDrain);
+        }
+    }
+}
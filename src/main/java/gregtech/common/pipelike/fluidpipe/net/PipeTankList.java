@@ -79,6 +79,7 @@ public class PipeTankList implements IFluidHandler, Iterable<FluidTank> {
             if (doFill) {
                 tank.setFluid(newFluid);
                 pipe.receivedFrom(facing);
+                pipe.getCoverableImplementation().wakeUpCovers();
                 pipe.checkAndDestroy(newFluid);
             }
             return newFluid.amount;
@@ -89,6 +90,7 @@ public class PipeTankList implements IFluidHandler, Iterable<FluidTank> {
                 if (doFill) {
                     currentFluid.amount += toAdd;
                     pipe.receivedFrom(facing);
+                    pipe.getCoverableImplementation().wakeUpCovers();
                     pipe.checkAndDestroy(currentFluid);
                 }
                 return toAdd;
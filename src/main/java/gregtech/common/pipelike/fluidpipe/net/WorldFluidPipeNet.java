@@ -1,11 +1,15 @@
 package gregtech.common.pipelike.fluidpipe.net;
 
-import gregtech.api.pipenet.WorldPipeNet;
+import gregtech.api.pipenet.tickable.TickableWorldPipeNet;
 import gregtech.api.unification.material.properties.FluidPipeProperties;
+import gregtech.common.pipelike.fluidpipe.tile.TileEntityFluidPipe;
 
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
-public class WorldFluidPipeNet extends WorldPipeNet<FluidPipeProperties, FluidPipeNet> {
+import java.util.List;
+
+public class WorldFluidPipeNet extends TickableWorldPipeNet<FluidPipeProperties, FluidPipeNet> {
 
     private static final String DATA_ID_BASE = "gregtech.fluid_pipe_net";
 
@@ -24,6 +28,23 @@ public class WorldFluidPipeNet extends WorldPipeNet<FluidPipeProperties, FluidPi
         super(name);
     }
 
+    @Override
+    protected int getUpdateRate() {
+        return TileEntityFluidPipe.FREQUENCY;
+    }
+
+    @Override
+    public void onChunkLoaded(Chunk chunk) {
+        super.onChunkLoaded(chunk);
+        // pipes in the loaded chunk can take part in their nets again
+        List<FluidPipeNet> pipeNets = this.pipeNetsByChunk.get(chunk.getPos());
+        if (pipeNets != null) {
+            for (FluidPipeNet pipeNet : pipeNets) {
+                pipeNet.getSolver().invalidate();
+            }
+        }
+    }
+
     @Override
     protected FluidPipeNet createNetInstance() {
         return new FluidPipeNet(this);
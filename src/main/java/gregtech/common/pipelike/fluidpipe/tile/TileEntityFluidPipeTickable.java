@@ -12,8 +12,10 @@ import gregtech.api.metatileentity.IDataInfoProvider;
 import gregtech.api.unification.material.properties.FluidPipeProperties;
 import gregtech.api.util.EntityDamageUtil;
 import gregtech.api.util.TextFormattingUtil;
+import gregtech.common.ConfigHolder;
 import gregtech.common.covers.CoverPump;
 import gregtech.common.covers.ManualImportExportMode;
+import gregtech.common.pipelike.fluidpipe.net.FluidPipeNet;
 import gregtech.common.pipelike.fluidpipe.net.PipeTankList;
 
 import net.minecraft.entity.EntityLivingBase;
@@ -74,7 +76,8 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
     public void update() {
         timer++;
         getCoverableImplementation().update();
-        if (!world.isRemote && getOffsetTimer() % FREQUENCY == 0) {
+        // with the net solver enabled, the fluid of all pipes is moved by the FluidPipeNet instead
+        if (!world.isRemote && !ConfigHolder.machines.fluidPipeNetSolver && getOffsetTimer() % FREQUENCY == 0) {
             lastReceivedFrom &= 63;
             if (lastReceivedFrom == 63) {
                 lastReceivedFrom = 0;
@@ -107,6 +110,18 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
         return true;
     }
 
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        if (ConfigHolder.machines.fluidPipeNetSolver) {
+            // the net solver holds on to this tile entity
+            FluidPipeNet net = getFluidPipeNet();
+            if (net != null) {
+                net.getSolver().invalidate();
+            }
+        }
+    }
+
     private void distributeFluid(int channel, FluidTank tank, FluidStack fluid) {
         // Tank, From, Amount to receive
         List<FluidTransaction> tanks = new ArrayList<>();
@@ -130,22 +145,8 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
                     facing.getOpposite());
             if (fluidHandler == null) continue;
 
-            IFluidHandler pipeTank = tank;
-            Cover cover = getCoverableImplementation().getCoverAtSide(facing);
-
-            // pipeTank should only be determined by the cover attached to the actual pipe
-            if (cover != null) {
-                pipeTank = cover.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, pipeTank);
-                // Shutter covers return null capability when active, so check here to prevent NPE
-                if (pipeTank == null || checkForPumpCover(cover)) continue;
-            } else {
-                CoverableView coverable = neighbor.getCapability(GregtechTileCapabilities.CAPABILITY_COVER_HOLDER,
-                        facing.getOpposite());
-                if (coverable != null) {
-                    cover = coverable.getCoverAtSide(facing.getOpposite());
-                    if (checkForPumpCover(cover)) continue;
-                }
-            }
+            IFluidHandler pipeTank = getOutputTank(facing, neighbor, tank);
+            if (pipeTank == null) continue;
 
             FluidStack drainable = pipeTank.drain(maxFluid, false);
             if (drainable == null || drainable.amount <= 0) {
@@ -196,6 +197,35 @@ public class TileEntityFluidPipeTickable extends TileEntityFluidPipe implements
         }
     }
 
+    /**
+     * Determines the handler fluid leaves this pipe through towards a neighbour.
+     *
+     * @param facing   the side of the pipe the fluid leaves through
+     * @param neighbor the tile entity on that side
+     * @param pipeTank the handler holding the fluid to leave
+     * @return the pipe tank, wrapped by the cover on the side if present, or null if fluid can not leave on that side
+     */
+    @Nullable
+    public IFluidHandler getOutputTank(@NotNull EnumFacing facing, @NotNull TileEntity neighbor,
+                                       @NotNull IFluidHandler pipeTank) {
+        Cover cover = getCoverableImplementation().getCoverAtSide(facing);
+
+        // pipeTank should only be determined by the cover attached to the actual pipe
+        if (cover != null) {
+            pipeTank = cover.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, pipeTank);
+            // Shutter covers return null capability when active, so check here to prevent NPE
+            if (pipeTank == null || checkForPumpCover(cover)) return null;
+        } else {
+            CoverableView coverable = neighbor.getCapability(GregtechTileCapabilities.CAPABILITY_COVER_HOLDER,
+                    facing.getOpposite());
+            if (coverable != null) {
+                cover = coverable.getCoverAtSide(facing.getOpposite());
+                if (checkForPumpCover(cover)) return null;
+            }
+        }
+        return pipeTank;
+    }
+
     private boolean checkForPumpCover(@Nullable Cover cover) {
         if (cover instanceof CoverPump coverPump) {
             int pipeThroughput = getNodeData().getThroughput() * 20;
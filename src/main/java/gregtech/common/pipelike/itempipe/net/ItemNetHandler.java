@@ -20,12 +20,16 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenCustomHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class ItemNetHandler implements IItemHandler {
 
@@ -33,8 +37,13 @@ public class ItemNetHandler implements IItemHandler {
     private TileEntityItemPipe pipe;
     private final EnumFacing facing;
     private final Object2IntMap<FacingPos> simulatedTransfersGlobalRoundRobin = new Object2IntOpenHashMap<>();
+    private boolean simulatedTransfersCopied;
     private int simulatedTransfers = 0;
     private final ItemStackHandler testHandler = new ItemStackHandler(1);
+    private final List<ItemRoutePath> roundRobinPaths = new ArrayList<>();
+    // item types each destination rejected during the current tick, so they are not tried again
+    private final Map<ItemRoutePath, Set<ItemStack>> rejectedItemTypes = new Reference2ObjectOpenHashMap<>();
+    private long rejectedItemTypesTime = -1;
 
     public ItemNetHandler(ItemPipeNet net, TileEntityItemPipe pipe, EnumFacing facing) {
         this.net = net;
@@ -60,8 +69,34 @@ public class ItemNetHandler implements IItemHandler {
 
     private void copyTransferred() {
         simulatedTransfers = pipe.getTransferredItems();
-        simulatedTransfersGlobalRoundRobin.clear();
-        simulatedTransfersGlobalRoundRobin.putAll(pipe.getTransferred());
+        // the round robin state is only copied once a simulation needs it
+        simulatedTransfersCopied = false;
+    }
+
+    private Object2IntMap<FacingPos> getSimulatedTransfersGlobalRoundRobin() {
+        if (!simulatedTransfersCopied) {
+            simulatedTransfersGlobalRoundRobin.clear();
+            simulatedTransfersGlobalRoundRobin.putAll(pipe.getTransferred());
+            simulatedTransfersCopied = true;
+        }
+        return simulatedTransfersGlobalRoundRobin;
+    }
+
+    private boolean isRejected(ItemRoutePath routePath, ItemStack stack) {
+        long time = pipe.getPipeWorld().getTotalWorldTime();
+        if (time != rejectedItemTypesTime) {
+            rejectedItemTypes.clear();
+            rejectedItemTypesTime = time;
+            return false;
+        }
+        Set<ItemStack> rejected = rejectedItemTypes.get(routePath);
+        return rejected != null && rejected.contains(stack);
+    }
+
+    private void markRejected(ItemRoutePath routePath, ItemStack stack) {
+        rejectedItemTypes.computeIfAbsent(routePath,
+                k -> new ObjectOpenCustomHashSet<>(ItemStackHashStrategy.comparingAllButCount()))
+                .add(stack.copy());
     }
 
     @NotNull
@@ -123,14 +158,17 @@ public class ItemNetHandler implements IItemHandler {
             return stack;
         if (routePaths.size() == 1)
             return insert(routePaths.get(0), stack, simulate);
-        List<ItemRoutePath> routePathsCopy = new ArrayList<>(routePaths);
 
         if (global) {
-            stack = insertToHandlersEnhanced(routePathsCopy, stack, routePaths.size(), simulate);
+            stack = insertToHandlersEnhanced(routePaths, stack, routePaths.size(), simulate);
         } else {
+            // reuse the list, unless this is a nested insertion
+            List<ItemRoutePath> routePathsCopy = roundRobinPaths.isEmpty() ? roundRobinPaths : new ArrayList<>();
+            routePathsCopy.addAll(routePaths);
             stack = insertToHandlers(routePathsCopy, stack, simulate);
             if (!stack.isEmpty() && !routePathsCopy.isEmpty())
                 stack = insertToHandlers(routePathsCopy, stack, simulate);
+            routePathsCopy.clear();
         }
 
         return stack;
@@ -300,7 +338,7 @@ public class ItemNetHandler implements IItemHandler {
     public ItemStack insert(ItemRoutePath routePath, ItemStack stack, boolean simulate, boolean ignoreLimit) {
         int allowed = ignoreLimit ? stack.getCount() :
                 checkTransferable(routePath.getProperties().getTransferRate(), stack.getCount(), simulate);
-        if (allowed == 0 || !routePath.matchesFilters(stack)) {
+        if (allowed == 0 || !routePath.matchesFilters(stack) || isRejected(routePath, stack)) {
             return stack;
         }
         Cover pipeCover = routePath.getTargetPipe().getCoverableImplementation()
@@ -314,6 +352,7 @@ public class ItemNetHandler implements IItemHandler {
             if (itemHandler == null || (itemHandler != testHandler &&
                     (allowed = itemHandler.extractItem(0, allowed, true).getCount()) <= 0)) {
                 testHandler.setStackInSlot(0, ItemStack.EMPTY);
+                markRejected(routePath, stack);
                 return stack;
             }
             testHandler.setStackInSlot(0, ItemStack.EMPTY);
@@ -330,7 +369,11 @@ public class ItemNetHandler implements IItemHandler {
                     ignoreLimit);
         }
 
-        return insert(neighbourHandler, stack, simulate, allowed, ignoreLimit);
+        ItemStack remainder = insert(neighbourHandler, stack, simulate, allowed, ignoreLimit);
+        if (remainder.getCount() == stack.getCount()) {
+            markRejected(routePath, stack);
+        }
+        return remainder;
     }
 
     private ItemStack insert(IItemHandler handler, ItemStack stack, boolean simulate, int allowed,
@@ -451,25 +494,25 @@ public class ItemNetHandler implements IItemHandler {
 
     private void transferTo(ItemRoutePath routePath, boolean simulate, int amount) {
         if (simulate)
-            simulatedTransfersGlobalRoundRobin.merge(routePath.toFacingPos(), amount, Integer::sum);
+            getSimulatedTransfersGlobalRoundRobin().merge(routePath.toFacingPos(), amount, Integer::sum);
         else
             pipe.getTransferred().merge(routePath.toFacingPos(), amount, Integer::sum);
     }
 
     private boolean contains(ItemRoutePath routePath, boolean simulate) {
-        return simulate ? simulatedTransfersGlobalRoundRobin.containsKey(routePath.toFacingPos()) :
+        return simulate ? getSimulatedTransfersGlobalRoundRobin().containsKey(routePath.toFacingPos()) :
                 pipe.getTransferred().containsKey(routePath.toFacingPos());
     }
 
     private int didTransferTo(ItemRoutePath routePath, boolean simulate) {
         if (simulate)
-            return simulatedTransfersGlobalRoundRobin.getInt(routePath.toFacingPos());
+            return getSimulatedTransfersGlobalRoundRobin().getInt(routePath.toFacingPos());
         return pipe.getTransferred().getInt(routePath.toFacingPos());
     }
 
     private void resetTransferred(boolean simulated) {
         if (simulated)
-            simulatedTransfersGlobalRoundRobin.clear();
+            getSimulatedTransfersGlobalRoundRobin().clear();
         else
             pipe.resetTransferred();
     }
@@ -4,7 +4,6 @@ import gregtech.api.capability.ILaserContainer;
 import gregtech.common.pipelike.laser.tile.TileEntityLaserPipe;
 
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.math.BlockPos;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -26,11 +25,7 @@ public class LaserNetHandler implements ILaserContainer {
     }
 
     private void setPipesActive() {
-        for (BlockPos pos : net.getAllNodes().keySet()) {
-            if (pipe.getWorld().getTileEntity(pos) instanceof TileEntityLaserPipe laserPipe) {
-                laserPipe.setActive(true, 100);
-            }
-        }
+        net.setPipesActive(pipe.getWorld());
     }
 
     @Nullable
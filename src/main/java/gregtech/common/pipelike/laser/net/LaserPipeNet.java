@@ -1,13 +1,16 @@
 package gregtech.common.pipelike.laser.net;
 
+import gregtech.api.pipenet.ActivePipeCache;
 import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.common.pipelike.laser.LaserPipeProperties;
+import gregtech.common.pipelike.laser.tile.TileEntityLaserPipe;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.jetbrains.annotations.Nullable;
@@ -17,6 +20,8 @@ import java.util.Map;
 public class LaserPipeNet extends PipeNet<LaserPipeProperties> {
 
     private final Map<BlockPos, LaserRoutePath> netData = new Object2ObjectOpenHashMap<>();
+    private final ActivePipeCache<TileEntityLaserPipe> activePipes = new ActivePipeCache<>(this,
+            TileEntityLaserPipe.class, (pipe, duration) -> pipe.setActive(true, duration));
 
     public LaserPipeNet(WorldPipeNet<LaserPipeProperties, ? extends PipeNet<LaserPipeProperties>> world) {
         super(world);
@@ -36,6 +41,19 @@ public class LaserPipeNet extends PipeNet<LaserPipeProperties> {
         return data;
     }
 
+    /**
+     * Keeps all pipes of this net active, see {@link ActivePipeCache}
+     */
+    public void setPipesActive(World world) {
+        activePipes.setActive(world);
+    }
+
+    @Override
+    protected void onNodeConnectionsUpdate() {
+        super.onNodeConnectionsUpdate();
+        activePipes.invalidate();
+    }
+
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
         netData.clear();
@@ -49,6 +67,7 @@ public class LaserPipeNet extends PipeNet<LaserPipeProperties> {
     @Override
     public void onChunkUnload() {
         netData.clear();
+        activePipes.invalidate();
     }
 
     @Override
@@ -57,6 +76,8 @@ public class LaserPipeNet extends PipeNet<LaserPipeProperties> {
         super.transferNodeData(transferredNodes, parentNet);
         netData.clear();
         ((LaserPipeNet) parentNet).netData.clear();
+        activePipes.invalidate();
+        ((LaserPipeNet) parentNet).activePipes.invalidate();
     }
 
     @Override
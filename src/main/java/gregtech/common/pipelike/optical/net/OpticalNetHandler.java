@@ -7,7 +7,6 @@ import gregtech.api.recipes.Recipe;
 import gregtech.common.pipelike.optical.tile.TileEntityOpticalPipe;
 
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
 import org.jetbrains.annotations.NotNull;
@@ -68,11 +67,7 @@ public class OpticalNetHandler implements IDataAccessHatch, IOpticalComputationP
     }
 
     private void setPipesActive() {
-        for (BlockPos pos : net.getAllNodes().keySet()) {
-            if (world.getTileEntity(pos) instanceof TileEntityOpticalPipe opticalPipe) {
-                opticalPipe.setActive(true, 100);
-            }
-        }
+        if (net != null) net.setPipesActive(world);
     }
 
     private boolean isNetInvalidForTraversal() {
@@ -1,13 +1,16 @@
 package gregtech.common.pipelike.optical.net;
 
+import gregtech.api.pipenet.ActivePipeCache;
 import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
 import gregtech.common.pipelike.optical.OpticalPipeProperties;
+import gregtech.common.pipelike.optical.tile.TileEntityOpticalPipe;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.jetbrains.annotations.Nullable;
@@ -17,6 +20,8 @@ import java.util.Map;
 public class OpticalPipeNet extends PipeNet<OpticalPipeProperties> {
 
     private final Map<BlockPos, OpticalRoutePath> NET_DATA = new Object2ObjectOpenHashMap<>();
+    private final ActivePipeCache<TileEntityOpticalPipe> activePipes = new ActivePipeCache<>(this,
+            TileEntityOpticalPipe.class, (pipe, duration) -> pipe.setActive(true, duration));
 
     public OpticalPipeNet(WorldPipeNet<OpticalPipeProperties, ? extends PipeNet<OpticalPipeProperties>> world) {
         super(world);
@@ -37,6 +42,19 @@ public class OpticalPipeNet extends PipeNet<OpticalPipeProperties> {
         return data;
     }
 
+    /**
+     * Keeps all pipes of this net active, see {@link ActivePipeCache}
+     */
+    public void setPipesActive(World world) {
+        activePipes.setActive(world);
+    }
+
+    @Override
+    protected void onNodeConnectionsUpdate() {
+        super.onNodeConnectionsUpdate();
+        activePipes.invalidate();
+    }
+
     @Override
     public void onNeighbourUpdate(BlockPos fromPos) {
         NET_DATA.clear();
@@ -50,6 +68,7 @@ public class OpticalPipeNet extends PipeNet<OpticalPipeProperties> {
     @Override
     public void onChunkUnload() {
         NET_DATA.clear();
+        activePipes.invalidate();
     }
 
     @Override
@@ -58,6 +77,8 @@ public class OpticalPipeNet extends PipeNet<OpticalPipeProperties> {
         super.transferNodeData(transferredNodes, parentNet);
         NET_DATA.clear();
         ((OpticalPipeNet) parentNet).NET_DATA.clear();
+        activePipes.invalidate();
+        ((OpticalPipeNet) parentNet).activePipes.invalidate();
     }
 
     @Override
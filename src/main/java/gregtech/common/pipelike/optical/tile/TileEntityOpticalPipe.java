@@ -174,6 +174,9 @@ public class TileEntityOpticalPipe extends TileEntityPipeBase<OpticalPipeType, O
                 }
                 return true;
             });
+        } else if (this.isActive) {
+            // stay active for the full duration again
+            this.ticksActive = 0;
         }
 
         if (stateChanged) {
@@ -39,11 +39,13 @@ import gregtech.common.blocks.BlockBatteryPart;
 import gregtech.common.blocks.BlockWireCoil;
 import gregtech.common.blocks.MetaBlocks;
 import gregtech.common.command.CommandHand;
+import gregtech.common.command.CommandProfile;
 import gregtech.common.command.CommandRecipeCheck;
 import gregtech.common.command.CommandShaders;
 import gregtech.common.command.worldgen.CommandWorldgen;
 import gregtech.common.covers.CoverBehaviors;
 import gregtech.common.covers.filter.FilterTypeRegistry;
+import gregtech.common.covers.filter.SmartItemFilter;
 import gregtech.common.covers.filter.oreglob.impl.OreGlobParser;
 import gregtech.common.items.MetaItems;
 import gregtech.common.items.ToolItems;
@@ -63,9 +65,11 @@ import gregtech.core.network.packets.PacketNotifyCapeChange;
 import gregtech.core.network.packets.PacketPluginSynced;
 import gregtech.core.network.packets.PacketRecoverMTE;
 import gregtech.core.network.packets.PacketReloadShaders;
+import gregtech.core.network.packets.PacketTileCustomData;
 import gregtech.core.network.packets.PacketUIClientAction;
 import gregtech.core.network.packets.PacketUIOpen;
 import gregtech.core.network.packets.PacketUIWidgetUpdate;
+import gregtech.core.network.packets.PacketUIWidgetUpdateBatch;
 import gregtech.core.sound.GTSoundEvents;
 import gregtech.core.sound.internal.SoundManager;
 import gregtech.core.unification.material.internal.MaterialRegistryManager;
@@ -229,6 +233,8 @@ public class CoreModule implements IGregTechModule {
         GregTechAPI.networkHandler.registerPacket(PacketNotifyCapeChange.class);
         GregTechAPI.networkHandler.registerPacket(PacketReloadShaders.class);
         GregTechAPI.networkHandler.registerPacket(PacketClipboardNBTUpdate.class);
+        GregTechAPI.networkHandler.registerPacket(PacketTileCustomData.class);
+        GregTechAPI.networkHandler.registerPacket(PacketUIWidgetUpdateBatch.class);
     }
 
     @Override
@@ -289,6 +295,8 @@ public class CoreModule implements IGregTechModule {
     @Override
     public void loadComplete(FMLLoadCompleteEvent event) {
         proxy.onLoadComplete();
+        OreDictUnifier.freeze();
+        SmartItemFilter.SmartFilteringMode.buildTransferStackSizes();
     }
 
     @Override
@@ -301,6 +309,7 @@ public class CoreModule implements IGregTechModule {
         GregTechAPI.commandManager.addCommand(new CommandHand());
         GregTechAPI.commandManager.addCommand(new CommandRecipeCheck());
         GregTechAPI.commandManager.addCommand(new CommandShaders());
+        GregTechAPI.commandManager.addCommand(new CommandProfile());
         CapesRegistry.load();
     }
 
@@ -0,0 +1,79 @@
+package gregtech.core.network;
+
+import gregtech.api.GTValues;
+import gregtech.api.GregTechAPI;
+import gregtech.api.network.PacketDataList;
+import gregtech.core.network.packets.PacketTileCustomData;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Collects the custom data of synced tile entities per chunk, and sends it as one
+ * {@link PacketTileCustomData} per chunk at the end of the world tick.
+ * <p>
+ * The data is queued when the chunk sends its tile entity updates, which is after the block changes in the chunk
+ * were sent, so the tile entities already exist on the client when the data arrives.
+ */
+@Mod.EventBusSubscriber(modid = GTValues.MODID)
+public final class CustomDataBatcher {
+
+    private static final Map<World, Long2ObjectMap<PacketTileCustomData>> BATCHES = new Object2ObjectOpenHashMap<>();
+
+    private CustomDataBatcher() {}
+
+    /**
+     * Queues the data of a tile entity to be sent at the end of the tick. Also removes all data packets from the list.
+     *
+     * @param world   the server world of the tile entity
+     * @param pos     the position of the tile entity
+     * @param updates the data to send
+     */
+    public static void queue(@NotNull World world, @NotNull BlockPos pos, @NotNull PacketDataList updates) {
+        Long2ObjectMap<PacketTileCustomData> chunks = BATCHES.get(world);
+        if (chunks == null) {
+            chunks = new Long2ObjectOpenHashMap<>();
+            BATCHES.put(world, chunks);
+        }
+        int chunkX = pos.getX() >> 4;
+        int chunkZ = pos.getZ() >> 4;
+        long chunk = ChunkPos.asLong(chunkX, chunkZ);
+        PacketTileCustomData packet = chunks.get(chunk);
+        if (packet == null) {
+            packet = new PacketTileCustomData(chunkX, chunkZ);
+            chunks.put(chunk, packet);
+        }
+        packet.add(pos, updates);
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.world.isRemote || event.phase != TickEvent.Phase.END) return;
+        Long2ObjectMap<PacketTileCustomData> chunks = BATCHES.get(event.world);
+        if (chunks == null || chunks.isEmpty()) return;
+        int dimension = event.world.provider.getDimension();
+        for (PacketTileCustomData packet : chunks.values()) {
+            GregTechAPI.networkHandler.sendToAllTracking(packet, packet.getTargetPoint(dimension));
+        }
+        chunks.clear();
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event) {
+        if (!event.getWorld().isRemote) {
+            BATCHES.remove(event.getWorld());
+        }
+    }
+}
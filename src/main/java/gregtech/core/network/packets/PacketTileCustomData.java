@@ -0,0 +1,99 @@
+package gregtech.core.network.packets;
+
+import gregtech.api.metatileentity.SyncedTileEntityBase;
+import gregtech.api.network.IClientExecutor;
+import gregtech.api.network.IPacket;
+import gregtech.api.network.PacketDataList;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.network.NetworkRegistry;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The custom data of all synced tile entities in a chunk which changed during a tick.
+ * Positions are written relative to the chunk.
+ */
+public class PacketTileCustomData implements IPacket, IClientExecutor {
+
+    private int chunkX;
+    private int chunkZ;
+    private final Long2ObjectMap<PacketDataList> updates = new Long2ObjectLinkedOpenHashMap<>();
+
+    @SuppressWarnings("unused")
+    public PacketTileCustomData() {}
+
+    public PacketTileCustomData(int chunkX, int chunkZ) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+    }
+
+    /**
+     * Adds the data of a tile entity in the chunk. Also removes all data packets from the list.
+     */
+    public void add(@NotNull BlockPos pos, @NotNull PacketDataList dataList) {
+        long key = pos.toLong();
+        PacketDataList tileUpdates = updates.get(key);
+        if (tileUpdates == null) {
+            tileUpdates = new PacketDataList();
+            updates.put(key, tileUpdates);
+        }
+        tileUpdates.addAll(dataList);
+        dataList.clear();
+    }
+
+    public @NotNull NetworkRegistry.TargetPoint getTargetPoint(int dimension) {
+        return new NetworkRegistry.TargetPoint(dimension, (chunkX << 4) + 8, 0, (chunkZ << 4) + 8, 0);
+    }
+
+    @Override
+    public void encode(PacketBuffer buf) {
+        buf.writeInt(chunkX);
+        buf.writeInt(chunkZ);
+        buf.writeVarInt(updates.size());
+        for (Long2ObjectMap.Entry<PacketDataList> entry : updates.long2ObjectEntrySet()) {
+            BlockPos pos = BlockPos.fromLong(entry.getLongKey());
+            buf.writeVarInt(pos.getY() << 8 | (pos.getX() & 15) << 4 | (pos.getZ() & 15));
+            entry.getValue().dumpToBuffer(buf);
+        }
+    }
+
+    @Override
+    public void decode(PacketBuffer buf) {
+        this.chunkX = buf.readInt();
+        this.chunkZ = buf.readInt();
+        int count = buf.readVarInt();
+        for (int i = 0; i < count; i++) {
+            int local = buf.readVarInt();
+            BlockPos pos = new BlockPos((chunkX << 4) | (local >> 4 & 15), local >> 8,
+                    (chunkZ << 4) | (local & 15));
+            PacketDataList dataList = new PacketDataList();
+            dataList.readFromBuffer(buf);
+            updates.put(pos.toLong(), dataList);
+        }
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void executeClient(NetHandlerPlayClient handler) {
+        World world = Minecraft.getMinecraft().world;
+        if (world == null) return;
+        for (Long2ObjectMap.Entry<PacketDataList> entry : updates.long2ObjectEntrySet()) {
+            BlockPos pos = BlockPos.fromLong(entry.getLongKey());
+            if (!world.isBlockLoaded(pos)) continue;
+            TileEntity tileEntity = world.getTileEntity(pos);
+            if (tileEntity instanceof SyncedTileEntityBase syncedTileEntity) {
+                syncedTileEntity.receiveCustomData(entry.getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package gregtech.core.network.packets;
+
+import gregtech.api.gui.impl.ModularUIGui;
+import gregtech.api.network.IClientExecutor;
+import gregtech.api.network.IPacket;
+import gregtech.core.network.NetworkUtils;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiScreen;
+import net.minecraft.client.network.NetHandlerPlayClient;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * All widget updates of a UI which were written during one tick.
+ * Each update is written as the widget id followed by the update data, see {@link PacketUIWidgetUpdate}.
+ */
+public class PacketUIWidgetUpdateBatch implements IPacket, IClientExecutor {
+
+    private int windowId;
+    private int updateCount;
+    private PacketBuffer updateData;
+    private List<PacketUIWidgetUpdate> updates;
+
+    @SuppressWarnings("unused")
+    public PacketUIWidgetUpdateBatch() {}
+
+    public PacketUIWidgetUpdateBatch(int windowId, int updateCount, PacketBuffer updateData) {
+        this.windowId = windowId;
+        this.updateCount = updateCount;
+        this.updateData = updateData;
+    }
+
+    @Override
+    public void encode(PacketBuffer buf) {
+        buf.writeVarInt(windowId);
+        buf.writeVarInt(updateCount);
+        buf.writeBytes(updateData, updateData.readerIndex(), updateData.readableBytes());
+    }
+
+    @Override
+    public void decode(PacketBuffer buf) {
+        this.windowId = buf.readVarInt();
+        this.updateCount = buf.readVarInt();
+        this.updates = new ArrayList<>(updateCount);
+        for (int i = 0; i < updateCount; i++) {
+            int widgetId = buf.readVarInt();
+            updates.add(new PacketUIWidgetUpdate(windowId, widgetId, NetworkUtils.readPacketBuffer(buf)));
+        }
+    }
+
+    @SideOnly(Side.CLIENT)
+    @Override
+    public void executeClient(NetHandlerPlayClient handler) {
+        GuiScreen currentScreen = Minecraft.getMinecraft().currentScreen;
+        if (currentScreen instanceof ModularUIGui) {
+            for (PacketUIWidgetUpdate update : updates) {
+                ((ModularUIGui) currentScreen).handleWidgetUpdate(update);
+            }
+        }
+    }
+}
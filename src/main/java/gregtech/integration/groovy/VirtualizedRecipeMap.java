@@ -3,6 +3,7 @@ package gregtech.integration.groovy;
 import gregtech.api.recipes.Recipe;
 import gregtech.api.recipes.RecipeBuilder;
 import gregtech.api.recipes.RecipeMap;
+import gregtech.common.covers.filter.SmartItemFilter;
 
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
@@ -32,6 +33,11 @@ public class VirtualizedRecipeMap extends VirtualizedRegistry<Recipe> {
         restoreFromBackup().forEach(recipeMap::compileRecipe);
     }
 
+    @Override
+    public void afterScriptLoad() {
+        SmartItemFilter.SmartFilteringMode.onRecipesChanged(recipeMap);
+    }
+
     public RecipeMap<?> getRecipeMap() {
         return recipeMap;
     }
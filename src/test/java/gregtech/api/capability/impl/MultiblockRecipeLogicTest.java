@@ -1,6 +1,8 @@
 package gregtech.api.capability.impl;
 
 import gregtech.Bootstrap;
+import gregtech.api.GTValues;
+import gregtech.api.capability.IEnergyContainer;
 import gregtech.api.capability.IMultipleTankHandler;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.MetaTileEntityHolder;
@@ -12,6 +14,7 @@ import gregtech.api.recipes.RecipeMap;
 import gregtech.api.recipes.RecipeMaps;
 import gregtech.api.recipes.builders.BlastRecipeBuilder;
 import gregtech.api.util.world.DummyWorld;
+import gregtech.common.ConfigHolder;
 import gregtech.common.metatileentities.MetaTileEntities;
 import gregtech.common.metatileentities.multi.electric.MetaTileEntityElectricBlastFurnace;
 import gregtech.common.metatileentities.multi.multiblockpart.MetaTileEntityFluidHatch;
@@ -551,6 +554,301 @@ public class MultiblockRecipeLogicTest {
                 new ItemStack(Blocks.STONE, 1)), is(true));
     }
 
+    @Test
+    public void distinctBusLanesRunSideBySide() {
+        RecipeMaps.BLAST_RECIPES.recipeBuilder()
+                .inputs(new ItemStack(Blocks.SAND))
+                .outputs(new ItemStack(Blocks.GLASS))
+                .EUt(1).duration(20)
+                .blastFurnaceTemp(1)
+                .buildAndRegister();
+
+        MultiblockRecipeLogic mbl = createLaneRecipeLogic(511, 0);
+
+        boolean lanes = ConfigHolder.machines.distinctBusLanes;
+        ConfigHolder.machines.distinctBusLanes = true;
+        try {
+            IItemHandlerModifiable firstBus = mbl.getInputBuses().get(0);
+            IItemHandlerModifiable secondBus = mbl.getInputBuses().get(1);
+            firstBus.insertItem(0, new ItemStack(Blocks.SAND, 16), false);
+            secondBus.insertItem(0, new ItemStack(Blocks.SAND, 16), false);
+
+            // both buses start a recipe in the same tick
+            mbl.updateWorkable();
+            MatcherAssert.assertThat(countRunningLanes(mbl), is(2));
+            MatcherAssert.assertThat(mbl.isActive, is(true));
+            MatcherAssert.assertThat(firstBus.getStackInSlot(0).getCount(), is(15));
+            MatcherAssert.assertThat(secondBus.getStackInSlot(0).getCount(), is(15));
+
+            // both recipes finish together, and the next ones start right away
+            for (int i = 0; i < 20; i++) {
+                mbl.updateWorkable();
+            }
+            ItemStack output = mbl.getOutputInventory().getStackInSlot(0);
+            MatcherAssert.assertThat(output.getItem(), is(new ItemStack(Blocks.GLASS).getItem()));
+            MatcherAssert.assertThat(output.getCount(), is(2));
+            MatcherAssert.assertThat(countRunningLanes(mbl), is(2));
+            MatcherAssert.assertThat(firstBus.getStackInSlot(0).getCount(), is(14));
+            MatcherAssert.assertThat(secondBus.getStackInSlot(0).getCount(), is(14));
+        } finally {
+            ConfigHolder.machines.distinctBusLanes = lanes;
+        }
+    }
+
+    @Test
+    public void distinctBusLanesShareTheVoltage() {
+        RecipeMaps.BLAST_RECIPES.recipeBuilder()
+                .inputs(new ItemStack(Blocks.CLAY))
+                .outputs(new ItemStack(Blocks.HARDENED_CLAY))
+                .EUt(20).duration(20)
+                .blastFurnaceTemp(1)
+                .buildAndRegister();
+
+        MultiblockRecipeLogic mbl = createLaneRecipeLogic(512, GTValues.V[GTValues.LV]);
+
+        boolean lanes = ConfigHolder.machines.distinctBusLanes;
+        ConfigHolder.machines.distinctBusLanes = true;
+        try {
+            IItemHandlerModifiable firstBus = mbl.getInputBuses().get(0);
+            IItemHandlerModifiable secondBus = mbl.getInputBuses().get(1);
+            firstBus.insertItem(0, new ItemStack(Blocks.CLAY, 1), false);
+
+            // the first bus starts a recipe alone
+            mbl.updateWorkable();
+            MatcherAssert.assertThat(countRunningLanes(mbl), is(1));
+            MatcherAssert.assertThat(firstBus.getStackInSlot(0).isEmpty(), is(true));
+            for (int i = 0; i < 4; i++) {
+                mbl.updateWorkable();
+            }
+
+            // the second bus gets inputs later, but only 12 of the 32 EU/t are left for it
+            secondBus.insertItem(0, new ItemStack(Blocks.CLAY, 16), false);
+            mbl.updateWorkable();
+            MatcherAssert.assertThat(countRunningLanes(mbl), is(1));
+            MatcherAssert.assertThat(mbl.getRecipeEUt(), is(20));
+            MatcherAssert.assertThat(secondBus.getStackInSlot(0).getCount(), is(16));
+
+            // the second bus starts once the first recipe finished
+            for (int i = 0; i < 15; i++) {
+                mbl.updateWorkable();
+            }
+            ItemStack output = mbl.getOutputInventory().getStackInSlot(0);
+            MatcherAssert.assertThat(output.getItem(), is(new ItemStack(Blocks.HARDENED_CLAY).getItem()));
+            MatcherAssert.assertThat(output.getCount(), is(1));
+            MatcherAssert.assertThat(countRunningLanes(mbl), is(1));
+            MatcherAssert.assertThat(mbl.getRecipeEUt(), is(20));
+            MatcherAssert.assertThat(secondBus.getStackInSlot(0).getCount(), is(15));
+        } finally {
+            ConfigHolder.machines.distinctBusLanes = lanes;
+        }
+    }
+
+    private static int countRunningLanes(@NotNull MultiblockRecipeLogic mbl) {
+        int running = 0;
+        for (MultiblockRecipeLogic.RecipeLane lane : mbl.lanes) {
+            if (lane.progressTime > 0) running++;
+        }
+        return running;
+    }
+
+    /**
+     * Creates the recipe logic of a distinct blast furnace with two input buses
+     *
+     * @param voltage the voltage of its energy hatch, or 0 for none
+     */
+    @NotNull
+    private static MultiblockRecipeLogic createLaneRecipeLogic(int id, long voltage) {
+        World world = DummyWorld.INSTANCE;
+
+        RecipeMapMultiblockController mbt = MetaTileEntities.registerMetaTileEntity(id,
+                new MetaTileEntityElectricBlastFurnace(
+                        // super function calls the world, which equal null in test
+                        gregtechId("electric_blast_furnace")) {
+
+                    @Override
+                    public boolean hasMufflerMechanics() {
+                        return false;
+                    }
+
+                    // ignore maintenance problems
+                    @Override
+                    public boolean hasMaintenanceMechanics() {
+                        return false;
+                    }
+
+                    @Override
+                    public void reinitializeStructurePattern() {}
+
+                    @Override
+                    public boolean isDistinct() {
+                        return true;
+                    }
+
+                    // function checks for the temperature of the recipe against the coils
+                    @Override
+                    public boolean checkRecipe(@NotNull Recipe recipe, boolean consumeIfSuccess) {
+                        return true;
+                    }
+                });
+
+        // isValid() check in the dirtying logic requires both a metatileentity and a holder
+        try {
+            Field field = MetaTileEntity.class.getDeclaredField("holder");
+            field.setAccessible(true);
+            field.set(mbt, new MetaTileEntityHolder());
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            e.printStackTrace();
+        }
+
+        try {
+            Field field = MetaTileEntityHolder.class.getDeclaredField("metaTileEntity");
+            field.setAccessible(true);
+            field.set(mbt.getHolder(), mbt);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            e.printStackTrace();
+        }
+
+        ((MetaTileEntityHolder) mbt.getHolder()).setWorld(world);
+
+        // Controller and isAttachedToMultiBlock need the world so we fake it here.
+        MetaTileEntityItemBus importItemBus = new MetaTileEntityItemBus(gregtechId("item_bus.export.lv"), 1, false) {
+
+            @Override
+            public boolean isAttachedToMultiBlock() {
+                return true;
+            }
+
+            @Override
+            public MultiblockControllerBase getController() {
+                return mbt;
+            }
+        };
+        MetaTileEntityItemBus importItemBus2 = new MetaTileEntityItemBus(gregtechId("item_bus.export.lv"), 1, false) {
+
+            @Override
+            public boolean isAttachedToMultiBlock() {
+                return true;
+            }
+
+            @Override
+            public MultiblockControllerBase getController() {
+                return mbt;
+            }
+        };
+        MetaTileEntityItemBus exportItemBus = new MetaTileEntityItemBus(gregtechId("item_bus.export.lv"), 1, true) {
+
+            @Override
+            public boolean isAttachedToMultiBlock() {
+                return true;
+            }
+
+            @Override
+            public MultiblockControllerBase getController() {
+                return mbt;
+            }
+        };
+        MetaTileEntityFluidHatch importFluidBus = new MetaTileEntityFluidHatch(gregtechId("fluid_hatch.import.lv"), 1,
+                false) {
+
+            @Override
+            public boolean isAttachedToMultiBlock() {
+                return true;
+            }
+
+            @Override
+            public MultiblockControllerBase getController() {
+                return mbt;
+            }
+        };
+        MetaTileEntityFluidHatch exportFluidBus = new MetaTileEntityFluidHatch(gregtechId("fluid_hatch.export.lv"), 1,
+                true) {
+
+            @Override
+            public boolean isAttachedToMultiBlock() {
+                return true;
+            }
+
+            @Override
+            public MultiblockControllerBase getController() {
+                return mbt;
+            }
+        };
+
+        IEnergyContainer energyContainer = voltage > 0 ?
+                EnergyContainerHandler.receiverContainer(mbt, voltage * 64, voltage, 1) : null;
+
+        // Controller is a private field but we need that information
+        try {
+            Field field = MetaTileEntityMultiblockPart.class.getDeclaredField("controllerTile");
+            field.setAccessible(true);
+            field.set(importItemBus, mbt);
+            field.set(importItemBus2, mbt);
+            field.set(exportItemBus, mbt);
+            field.set(importFluidBus, mbt);
+            field.set(exportFluidBus, mbt);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            e.printStackTrace();
+        }
+
+        return new MultiblockRecipeLogic(mbt) {
+
+            @Override
+            protected long getEnergyStored() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            protected long getEnergyCapacity() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            protected boolean drawEnergy(int recipeEUt, boolean simulate) {
+                return true;
+            }
+
+            @Override
+            public long getMaxVoltage() {
+                return 32;
+            }
+
+            @Override
+            public IEnergyContainer getEnergyContainer() {
+                return energyContainer == null ? super.getEnergyContainer() : energyContainer;
+            }
+
+            // since the hatches were not really added to a valid multiblock structure,
+            // refer to their inventories directly
+            @Override
+            protected IItemHandlerModifiable getInputInventory() {
+                return importItemBus.getImportItems();
+            }
+
+            @Override
+            protected IItemHandlerModifiable getOutputInventory() {
+                return exportItemBus.getExportItems();
+            }
+
+            @Override
+            protected IMultipleTankHandler getInputTank() {
+                return importFluidBus.getImportFluids();
+            }
+
+            @Override
+            protected IMultipleTankHandler getOutputTank() {
+                return importFluidBus.getExportFluids();
+            }
+
+            @Override
+            protected List<IItemHandlerModifiable> getInputBuses() {
+                List<IItemHandlerModifiable> a = new ArrayList<>();
+                a.add(importItemBus.getImportItems());
+                a.add(importItemBus2.getImportItems());
+                return a;
+            }
+        };
+    }
+
     @Test
     public void testMaintenancePenalties() {
         TestableMaintenanceHatch maintenanceHatch = new TestableMaintenanceHatch(gregtechId("maintenance.hatch"),
@@ -0,0 +1,63 @@
+package gregtech.api.cover;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CoverSleepTimerTest {
+
+    @Test
+    public void sleepBacksOffUntilCapped() {
+        CoverSleepTimer timer = new CoverSleepTimer();
+        assertThat(timer.isSleeping(0), is(false));
+
+        long time = 0;
+        int expected = CoverSleepTimer.MIN_SLEEP_TICKS;
+        for (int i = 0; i < 10; i++) {
+            timer.sleep(time);
+            assertThat(timer.isSleeping(time + expected - 1), is(true));
+            assertThat(timer.isSleeping(time + expected), is(false));
+            time += expected;
+            expected = Math.min(expected * 2, CoverSleepTimer.MAX_SLEEP_TICKS);
+        }
+    }
+
+    @Test
+    public void wakeUpResetsBackoff() {
+        CoverSleepTimer timer = new CoverSleepTimer();
+        timer.sleep(0);
+        timer.sleep(10);
+        assertThat(timer.isSleeping(20), is(true));
+
+        timer.wakeUp();
+        assertThat(timer.isSleeping(20), is(false));
+        timer.sleep(20);
+        assertThat(timer.isSleeping(20 + CoverSleepTimer.MIN_SLEEP_TICKS), is(false));
+    }
+
+    @Test
+    public void sleepUntilWokenSleepsIndefinitely() {
+        CoverSleepTimer timer = new CoverSleepTimer();
+        timer.sleepUntilWoken();
+        assertThat(timer.isSleeping(Long.MAX_VALUE - 1), is(true));
+
+        timer.wakeUp();
+        assertThat(timer.isSleeping(0), is(false));
+    }
+
+    @Test
+    public void updateDetectsSkippedIntervals() {
+        CoverSleepTimer timer = new CoverSleepTimer();
+        assertThat(timer.onUpdate(5, 20), is(false));
+        for (long time = 6; time <= 40; time++) {
+            // consecutive updates never skip an interval
+            assertThat(timer.onUpdate(time, 20), is(false));
+        }
+        // no update from 56 to 60
+        assertThat(timer.onUpdate(55, 20), is(false));
+        assertThat(timer.onUpdate(61, 20), is(true));
+        // an update at the multiple itself handles it
+        assertThat(timer.onUpdate(80, 20), is(false));
+    }
+}
@@ -0,0 +1,52 @@
+package gregtech.api.network;
+
+import net.minecraft.network.PacketBuffer;
+
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PacketDataListTest {
+
+    @Test
+    public void replaceKeepsOnlyLatestData() {
+        PacketDataList list = new PacketDataList();
+        list.addOrReplace(1, new byte[] { 1 });
+        list.add(2, new byte[] { 2 });
+        list.add(3, new byte[] { 3 });
+        list.add(3, new byte[] { 4 });
+        list.addOrReplace(1, new byte[] { 5 });
+
+        assertThat(list.size(), is(4));
+        assertThat(list.getDiscriminator(0), is(2));
+        assertThat(list.getDiscriminator(1), is(3));
+        assertThat(list.getData(2)[0], is((byte) 4));
+        assertThat(list.getDiscriminator(3), is(1));
+        assertThat(list.getData(3)[0], is((byte) 5));
+    }
+
+    @Test
+    public void bufferRoundTrip() {
+        PacketDataList list = new PacketDataList();
+        list.add(0, new byte[0]);
+        list.add(300, new byte[] { 7, 8, 9 });
+        list.add(0, new byte[] { -1 });
+
+        PacketBuffer buf = new PacketBuffer(Unpooled.buffer());
+        list.dumpToBuffer(buf);
+        assertThat(list.isEmpty(), is(true));
+
+        PacketDataList read = new PacketDataList();
+        read.readFromBuffer(buf);
+        assertThat(buf.readableBytes(), is(0));
+        assertThat(read.size(), is(3));
+        assertThat(read.getDiscriminator(0), is(0));
+        assertThat(read.getData(0).length, is(0));
+        assertThat(read.getDiscriminator(1), is(300));
+        assertThat(read.getData(1)[2], is((byte) 9));
+        assertThat(read.getDiscriminator(2), is(0));
+        assertThat(read.getData(2)[0], is((byte) -1));
+    }
+}
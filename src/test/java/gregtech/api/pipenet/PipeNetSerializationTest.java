@@ -0,0 +1,93 @@
+package gregtech.api.pipenet;
+
+import gregtech.api.unification.material.properties.WireProperties;
+import gregtech.common.pipelike.cable.net.WorldENet;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.util.Constants.NBT;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class PipeNetSerializationTest {
+
+    @Test
+    public void legacyFormatMigratesToPacked() {
+        WorldENet legacy = new WorldENet("legacy");
+        legacy.readFromNBT(createLegacyData());
+        assertThat(legacy.pipeNets.size(), is(1));
+        Map<BlockPos, Node<WireProperties>> expected = legacy.pipeNets.get(0).getAllNodes();
+        assertThat(expected.size(), is(4));
+
+        NBTTagCompound saved = legacy.writeToNBT(new NBTTagCompound());
+        NBTTagCompound nodes = saved.getTagList("PipeNets", NBT.TAG_COMPOUND).getCompoundTagAt(0)
+                .getCompoundTag("Nodes");
+        assertThat(nodes.hasKey("Packed", NBT.TAG_BYTE_ARRAY), is(true));
+        assertThat(nodes.hasKey("NodeIndexes"), is(false));
+        assertThat(nodes.getTagList("Palette", NBT.TAG_COMPOUND).tagCount(), is(2));
+
+        WorldENet packed = new WorldENet("packed");
+        packed.readFromNBT(saved);
+        assertThat(packed.pipeNets.size(), is(1));
+        Map<BlockPos, Node<WireProperties>> actual = packed.pipeNets.get(0).getAllNodes();
+        assertThat(actual.size(), is(expected.size()));
+        for (Map.Entry<BlockPos, Node<WireProperties>> entry : expected.entrySet()) {
+            Node<WireProperties> node = actual.get(entry.getKey());
+            assertThat(node != null, is(true));
+            assertThat(node.data, is(entry.getValue().data));
+            assertThat(node.openConnections, is(entry.getValue().openConnections));
+            assertThat(node.mark, is(entry.getValue().mark));
+            assertThat(node.isActive, is(entry.getValue().isActive));
+        }
+    }
+
+    private static NBTTagCompound createLegacyData() {
+        NBTTagList properties = new NBTTagList();
+        properties.appendTag(createProperties(0, 32, 1, 2));
+        properties.appendTag(createProperties(1, 2048, 4, 1));
+
+        NBTTagList nodes = new NBTTagList();
+        nodes.appendTag(createNode(0, 64, 0, 0, 0b000011, Node.DEFAULT_MARK, false));
+        nodes.appendTag(createNode(-1, 64, 0, 0, 0b000001, 5, true));
+        nodes.appendTag(createNode(-30000000, 0, 29999999, 1, 0b111111, Node.DEFAULT_MARK, true));
+        nodes.appendTag(createNode(12, 255, -7, 1, 0, -3, false));
+
+        NBTTagCompound nodeList = new NBTTagCompound();
+        nodeList.setTag("NodeIndexes", nodes);
+        nodeList.setTag("WireProperties", properties);
+        NBTTagCompound net = new NBTTagCompound();
+        net.setTag("Nodes", nodeList);
+        NBTTagList nets = new NBTTagList();
+        nets.appendTag(net);
+        NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag("PipeNets", nets);
+        return compound;
+    }
+
+    private static NBTTagCompound createProperties(int index, int voltage, int amperage, int loss) {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger("index", index);
+        tag.setInteger("voltage", voltage);
+        tag.setInteger("amperage", amperage);
+        tag.setInteger("loss", loss);
+        return tag;
+    }
+
+    private static NBTTagCompound createNode(int x, int y, int z, int index, int open, int mark, boolean active) {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger("x", x);
+        tag.setInteger("y", y);
+        tag.setInteger("z", z);
+        tag.setInteger("index", index);
+        tag.setInteger("open", open);
+        tag.setInteger("mark", mark);
+        tag.setBoolean("active", active);
+        return tag;
+    }
+}
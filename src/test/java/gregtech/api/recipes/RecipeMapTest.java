@@ -171,6 +171,55 @@ public class RecipeMapTest {
         MatcherAssert.assertThat(ing0FromGTRecipeInput, equalTo(ing1FromGTRecipeInput));
     }
 
+    @Test
+    public void findRecipeRepeatedAndReentrant() {
+        // the lookup context is pooled per thread, so repeated and nested searches must not interfere
+        for (int i = 0; i < 3; i++) {
+            Recipe r = map.findRecipe(1, Collections.singletonList(new ItemStack(Blocks.COBBLESTONE)),
+                    Collections.emptyList());
+            MatcherAssert.assertThat(r, notNullValue());
+        }
+
+        Recipe[] nested = new Recipe[1];
+        Recipe outer = map.find(Collections.singletonList(new ItemStack(Blocks.STONE)),
+                Collections.singletonList(new FluidStack(FluidRegistry.WATER, 1)), recipe -> {
+                    nested[0] = map.findRecipe(30, Collections.emptyList(), Arrays.asList(
+                            Epichlorohydrin.getFluid(144),
+                            Naphtha.getFluid(3000),
+                            NitrogenDioxide.getFluid(1000)));
+                    return true;
+                });
+        MatcherAssert.assertThat(outer, notNullValue());
+        MatcherAssert.assertThat(nested[0], notNullValue());
+        MatcherAssert.assertThat(nested[0], not(sameInstance(outer)));
+    }
+
+    @Test
+    public void negativeCacheInvalidatedOnRecipeChange() {
+        Recipe r = map.findRecipe(30, Collections.singletonList(new ItemStack(Blocks.GRAVEL)),
+                Collections.emptyList());
+        MatcherAssert.assertThat(r, nullValue());
+        MatcherAssert.assertThat(map.getNegativeCache().size(), is(1));
+
+        // the same layout in a different slot order is a cache hit
+        long hits = map.getNegativeCache().getHits();
+        r = map.findRecipe(30, Arrays.asList(ItemStack.EMPTY, new ItemStack(Blocks.GRAVEL)),
+                Collections.emptyList());
+        MatcherAssert.assertThat(r, nullValue());
+        MatcherAssert.assertThat(map.getNegativeCache().getHits(), is(hits + 1));
+
+        map.recipeBuilder()
+                .inputs(new ItemStack(Blocks.GRAVEL))
+                .outputs(new ItemStack(Blocks.SAND))
+                .EUt(1).duration(1)
+                .buildAndRegister();
+        MatcherAssert.assertThat(map.getNegativeCache().size(), is(0));
+
+        r = map.findRecipe(30, Collections.singletonList(new ItemStack(Blocks.GRAVEL)),
+                Collections.emptyList());
+        MatcherAssert.assertThat(r, notNullValue());
+    }
+
     @Test
     public void GTRecipeInputEquals() {
         RecipeBuilder r = new RecipeBuilder<>()
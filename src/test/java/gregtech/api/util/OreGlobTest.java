@@ -9,6 +9,8 @@ import gregtech.common.covers.filter.oreglob.impl.OreGlobParser;
 import gregtech.common.covers.filter.oreglob.node.OreGlobNode;
 import gregtech.common.covers.filter.oreglob.node.OreGlobNodes;
 
+import net.minecraftforge.oredict.OreDictionary;
+
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
 import org.junit.jupiter.api.BeforeAll;
@@ -258,6 +260,24 @@ public class OreGlobTest {
         assertReport("dust !(impure) !(iron)", false);
     }
 
+    @Test
+    public void oreIdTest() {
+        OreGlob.setCompiler((expr, ignoreCase) -> new OreGlobParser(expr, ignoreCase).compile());
+        OreGlob expr = OreGlob.compile("dust* !*Gold", true).getInstance();
+        assertThat(OreGlob.compile("dust* !*Gold", true).getInstance() == expr, is(true));
+        assertThat(OreGlob.compile("dust* !*Gold", false).getInstance() == expr, is(false));
+
+        int dustIron = OreDictionary.getOreID("dustIron");
+        int dustGold = OreDictionary.getOreID("dustGold");
+        int plateIron = OreDictionary.getOreID("plateIron");
+        for (int i = 0; i < 2; i++) {
+            // second pass reads the cached results
+            assertThat(expr.matchesOreId(dustIron), is(true));
+            assertThat(expr.matchesOreId(dustGold), is(false));
+            assertThat(expr.matchesOreId(plateIron), is(false));
+        }
+    }
+
     private static OreGlob compile(String expression) {
         return compile(expression, false);
     }
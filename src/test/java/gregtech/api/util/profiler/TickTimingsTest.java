@@ -0,0 +1,26 @@
+package gregtech.api.util.profiler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TickTimingsTest {
+
+    @Test
+    public void percentilesAreBoundedByBuckets() {
+        TickTimings timings = new TickTimings(ProfilerCategory.MACHINE, Object.class);
+        for (int i = 0; i < 99; i++) {
+            timings.record(1000);
+        }
+        timings.record(1_000_000);
+
+        assertThat(timings.getCalls(), is(100L));
+        assertThat(timings.getTotalNanos(), is(99 * 1000L + 1_000_000L));
+        assertThat(timings.getMaxNanos(), is(1_000_000L));
+        // 1000 ns falls into the [512, 1024) bucket
+        assertThat(timings.getPercentileNanos(0.5), is(1023L));
+        assertThat(timings.getPercentileNanos(0.99), is(1023L));
+        assertThat(timings.getPercentileNanos(1.0), is(1_000_000L));
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Consumer;
@@ -255,6 +256,26 @@ public class PowerSubstationTest {
         MatcherAssert.assertThat(storage.getStored(), isBigInt(1100));
     }
 
+    @Test
+    public void Test_Many_Identical_Batteries() {
+        long[] storageValues = new long[100_000];
+        Arrays.fill(storageValues, Long.MAX_VALUE);
+        PowerStationEnergyBank storage = createStorage(storageValues);
+        BigInteger capacity = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(storageValues.length));
+        MatcherAssert.assertThat(storage.getCapacity(), is(capacity));
+        MatcherAssert.assertThat(storage.getPassiveDrainPerTick(),
+                is(storageValues.length * PASSIVE_DRAIN_MAX_PER_STORAGE));
+
+        long halfLong = Long.MAX_VALUE / 2;
+        MatcherAssert.assertThat(storage.fill(halfLong), is(halfLong));
+        MatcherAssert.assertThat(storage.fill(Long.MAX_VALUE), is(Long.MAX_VALUE));
+        MatcherAssert.assertThat(storage.getStored(), isBigInt(halfLong, Long.MAX_VALUE));
+        MatcherAssert.assertThat(storage.drain(Long.MAX_VALUE), is(Long.MAX_VALUE));
+        MatcherAssert.assertThat(storage.getStored(), isBigInt(halfLong));
+        MatcherAssert.assertThat(storage.drain(Long.MAX_VALUE), is(halfLong));
+        MatcherAssert.assertThat(storage.hasEnergy(), is(false));
+    }
+
     @Test
     public void Test_Optimized_Big_Integer_Summarize() {
         Consumer<Random> testRunner = r -> {